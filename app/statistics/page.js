@@ -37,23 +37,17 @@ export default function Statistics() {
       params.append("subject", subject);
       params.append("period", period);
 
-      // Task Completion Rate
-      const completionRes = await fetch(`${API_URL}/statistics/task-completion-rate?${params}`);
-      if (!completionRes.ok) throw new Error("Failed to fetch completion rates");
-      const completionData = await completionRes.json();
+      // All four charts in one request
+      const dashboardRes = await fetch(`${API_URL}/statistics/dashboard?${params}`);
+      if (!dashboardRes.ok) throw new Error("Failed to fetch statistics");
+      const dashboard = await dashboardRes.json();
+
+      const completionData = dashboard.taskCompletionRates;
       setCompletionRates(completionData.length ? completionData : [0, 0, 0, 0, 0, 0, 0]);
 
-      // Subject Performance
-      const subjectRes = await fetch(`${API_URL}/statistics/subject-performance?${params}`);
-      if (!subjectRes.ok) throw new Error("Failed to fetch subject performance");
-      const subjectData = await subjectRes.json();
-      setSubjectPerformance(subjectData);
+      setSubjectPerformance(dashboard.subjectPerformance);
 
-      // Grade Distribution
-      const gradeRes = await fetch(`${API_URL}/statistics/grade-distribution?${params}`);
-      if (!gradeRes.ok) throw new Error("Failed to fetch grade distribution");
-      const gradeData = await gradeRes.json();
-      console.log("Grade Distribution Raw Data:", gradeData); // Debug raw data
+      const gradeData = dashboard.gradeDistribution;
       // Ensure all values are numbers
       const normalizedGradeData = {
         A: Number(gradeData["A"] || 0),
@@ -63,11 +57,7 @@ export default function Statistics() {
       };
       setGradeDistribution(normalizedGradeData);
 
-      // Submission Timeline
-      const timelineRes = await fetch(`${API_URL}/statistics/submission-timeline?${params}`);
-      if (!timelineRes.ok) throw new Error("Failed to fetch submission timeline");
-      const timelineData = await timelineRes.json();
-      setSubmissionTimeline(timelineData);
+      setSubmissionTimeline(dashboard.submissionTimeline);
     } catch (error) {
       console.error("Error fetching statistics:", error);
       toast({ title: "Error", description: "Failed to load statistics.", variant: "destructive" });
@@ -628,7 +628,7 @@ export default function Tasks() {
         <DialogContent className="sm:max-w-[500px]">
           <DialogHeader>
             <DialogTitle>Grade Submission</DialogTitle>
-            <DialogDescription>Grade the submission for: {selectedProgress?.task.title}</DialogDescription>
+            <DialogDescription>Grade the submission for: {selectedProgress?.taskTitle}</DialogDescription>
           </DialogHeader>
           <form onSubmit={handleGradeSubmission}>
             <div className="grid gap-4 py-4">
@@ -0,0 +1,65 @@
+package com.edulink.taskmanagement.benchmark;
+
+import com.edulink.taskmanagement.payload.response.UserDetailResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// The statistics reads behind /api/statistics and the student directory. Every invocation asks for the next tutor with
+// the analytics cache emptied first, so the computation is measured rather than a cache hit.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyticsBenchmark {
+
+    @State(Scope.Thread)
+    public static class Request {
+        private int next;
+        Long tutorId;
+
+        @Setup(Level.Invocation)
+        public void next(BenchmarkData data) {
+            tutorId = data.tutorIds.get(next++ % data.tutorIds.size());
+            data.analyticsCache.invalidateAll();
+        }
+    }
+
+    @Benchmark
+    public List<Double> getTaskCompletionRates(BenchmarkData data, Request request) {
+        return data.taskService.getTaskCompletionRates(request.tutorId, null, "all-subjects", "weekly");
+    }
+
+    @Benchmark
+    public Map<String, List<Double>> getSubjectPerformance(BenchmarkData data, Request request) {
+        return data.taskService.getSubjectPerformance(request.tutorId, null, "weekly");
+    }
+
+    @Benchmark
+    public Map<String, Double> getGradeDistribution(BenchmarkData data, Request request) {
+        return data.taskService.getGradeDistribution(request.tutorId, null, "all-subjects");
+    }
+
+    @Benchmark
+    public Map<String, Double> getSubmissionTimeline(BenchmarkData data, Request request) {
+        return data.taskService.getSubmissionTimeline(request.tutorId, null, "all-subjects");
+    }
+
+    @Benchmark
+    public List<UserDetailResponse> getUsersByRole(BenchmarkData data) {
+        return data.userService.getUsersByRole("STUDENT");
+    }
+}
@@ -0,0 +1,201 @@
+package com.edulink.taskmanagement.benchmark;
+
+import com.edulink.taskmanagement.TaskmanagementApplication;
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.BulkTaskRequest;
+import com.edulink.taskmanagement.payload.request.ProgressRequest;
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.AnalyticsCache;
+import com.edulink.taskmanagement.service.AnalyticsRollupService;
+import com.edulink.taskmanagement.service.ProgressService;
+import com.edulink.taskmanagement.service.StudentSummaryService;
+import com.edulink.taskmanagement.service.TaskService;
+import com.edulink.taskmanagement.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Boots the application on an in-memory H2 database (MySQL mode) and fills it with a synthetic school: tutors with
+// disjoint classes of students, tasks assigned to the whole class, and submissions spread over random (task, student)
+// pairs, three in four of them graded. Deadlines and submission times are then moved over the past twelve weeks and
+// the rollups and student summaries rebuilt, so the statistics have history to aggregate. One extra task of the first
+// tutor stays open for the submitProgress benchmark.
+@State(Scope.Benchmark)
+public class BenchmarkData {
+
+    private static final String[] SUBJECTS = {"Mathematics", "Physics", "Chemistry", "Biology", "English"};
+
+    @Param("4")
+    public int tutors;
+
+    @Param("200")
+    public int students;
+
+    // Per tutor
+    @Param("25")
+    public int tasks;
+
+    // Across all tutors; capped at the number of (task, student) pairs
+    @Param("3000")
+    public int submissions;
+
+    private ConfigurableApplicationContext context;
+
+    TaskService taskService;
+    ProgressService progressService;
+    UserService userService;
+    AnalyticsCache analyticsCache;
+
+    final List<Long> tutorIds = new ArrayList<>();
+    final List<Long> openTaskStudentIds = new ArrayList<>();
+    Long openTaskId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskmanagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            // Command-line arguments, so they win over application.properties
+            .run("--spring.datasource.url=jdbc:h2:mem:edulink-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.edulink.taskmanagement=WARN",
+                // The sweeper would otherwise mark the backdated tasks overdue mid-measurement
+                "--edulink.overdue.tick-interval=PT24H",
+                "--edulink.attachments.root=target/benchmark-uploads");
+        taskService = context.getBean(TaskService.class);
+        progressService = context.getBean(ProgressService.class);
+        userService = context.getBean(UserService.class);
+        analyticsCache = context.getBean(AnalyticsCache.class);
+        generate(new Random(42));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void generate(Random random) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<List<Long>> classes = new ArrayList<>();
+        for (int t = 0; t < tutors; t++) {
+            tutorIds.add(userRepository.save(user("TUTOR", t)).getId());
+            classes.add(new ArrayList<>());
+        }
+        List<Long> studentIds = new ArrayList<>();
+        for (int s = 0; s < students; s++) {
+            Long studentId = userRepository.save(user("STUDENT", s)).getId();
+            studentIds.add(studentId);
+            classes.get(s % tutors).add(studentId);
+        }
+
+        // Submissions need an open deadline; everything is backdated afterwards
+        List<Task> allTasks = new ArrayList<>();
+        List<long[]> pairs = new ArrayList<>();
+        for (int t = 0; t < tutors; t++) {
+            BulkTaskRequest bulkRequest = new BulkTaskRequest();
+            bulkRequest.setAssigneeIds(classes.get(t));
+            for (int i = 0; i < tasks; i++) {
+                bulkRequest.getTasks().add(taskRequest("Benchmark task " + i, SUBJECTS[i % SUBJECTS.length], null));
+            }
+            for (Task task : taskService.createTasks(bulkRequest, tutorIds.get(t))) {
+                allTasks.add(task);
+                classes.get(t).forEach(studentId -> pairs.add(new long[] {task.getId(), studentId}));
+            }
+        }
+
+        Collections.shuffle(pairs, random);
+        Map<Long, Map<Long, ProgressRequest>> gradesByTask = new HashMap<>();
+        for (long[] pair : pairs.subList(0, Math.min(submissions, pairs.size()))) {
+            ProgressSubmissionRequest request = new ProgressSubmissionRequest();
+            request.setTaskId(pair[0]);
+            request.setPercentageComplete(10 * random.nextInt(11));
+            Progress progress = progressService.submitProgress(request, pair[1]);
+            if (random.nextInt(4) > 0) {
+                ProgressRequest grade = new ProgressRequest();
+                grade.setScore(30 + random.nextInt(71));
+                gradesByTask.computeIfAbsent(pair[0], taskId -> new HashMap<>()).put(progress.getId(), grade);
+            }
+        }
+        for (Task task : allTasks) {
+            Map<Long, ProgressRequest> grades = gradesByTask.get(task.getId());
+            if (grades != null) {
+                progressService.gradeSubmissions(task.getId(), grades, task.getCreatedBy().getId());
+            }
+        }
+
+        backdate(allTasks, random);
+        tutorIds.forEach(tutorId -> context.getBean(AnalyticsRollupService.class).verifyTutor(tutorId, true));
+        context.getBean(StudentSummaryService.class).rebuild(studentIds);
+        context.getBean(EntityManagerFactory.class).getCache().evictAll();
+        analyticsCache.invalidateAll();
+
+        openTaskStudentIds.addAll(classes.get(0));
+        TaskRequest openTask = taskRequest("Open benchmark task", SUBJECTS[0], classes.get(0));
+        openTaskId = taskService.createTask(openTask, tutorIds.get(0)).getId();
+    }
+
+    // Deadlines over the past twelve weeks; submissions from three days early to one day late
+    private void backdate(List<Task> allTasks, Random random) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> deadlines = new ArrayList<>();
+        List<Object[]> submittedAt = new ArrayList<>();
+        for (Task task : allTasks) {
+            LocalDateTime deadline = now.minusHours(1 + random.nextInt(12 * 7 * 24));
+            deadlines.add(new Object[] {deadline, task.getId()});
+            for (Long progressId : jdbcTemplate.queryForList(
+                    "SELECT id FROM progress WHERE task_id = ? AND submitted_at IS NOT NULL", Long.class, task.getId())) {
+                submittedAt.add(new Object[] {deadline.plusHours(24 - random.nextInt(96)), progressId});
+            }
+        }
+        jdbcTemplate.batchUpdate("UPDATE tasks SET deadline = ? WHERE id = ?", deadlines);
+        jdbcTemplate.batchUpdate("UPDATE progress SET submitted_at = ? WHERE id = ?", submittedAt);
+    }
+
+    private TaskRequest taskRequest(String title, String subject, List<Long> assigneeIds) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle(title);
+        request.setDescription("Generated by the benchmark data set");
+        request.setDeadline(LocalDateTime.now().plusDays(30));
+        request.setSubject(subject);
+        request.setAssigneeIds(assigneeIds);
+        request.setMaxScore(100);
+        return request;
+    }
+
+    private User user(String role, int index) {
+        User user = new User();
+        user.setEmail(role.toLowerCase() + "-" + index + "@benchmark.invalid");
+        user.setName("Benchmark " + role.toLowerCase() + " " + index);
+        user.setPassword("");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,24 @@
+package com.edulink.taskmanagement.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// java -jar target/benchmarks.jar [JMH options], e.g. -p students=1000 -p submissions=20000 AnalyticsBenchmark.
+// Same options as org.openjdk.jmh.Main, with the gc profiler always on so allocation rates are reported.
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp()) {
+            options.showHelp();
+            return;
+        }
+        Runner runner = new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build());
+        if (options.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.edulink.taskmanagement.benchmark;
+
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One direct submission per invocation, rotating over the open task's class. The first round creates each student's
+// progress row and later rounds resubmit; percentages stay below 100 so the task never completes.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgressBenchmark {
+
+    @State(Scope.Thread)
+    public static class Submissions {
+        private int next;
+    }
+
+    @Benchmark
+    public Progress submitProgress(BenchmarkData data, Submissions submissions) {
+        int index = submissions.next++;
+        ProgressSubmissionRequest request = new ProgressSubmissionRequest();
+        request.setTaskId(data.openTaskId);
+        request.setPercentageComplete(10 + index % 9 * 10);
+        return data.progressService.submitProgress(request,
+            data.openTaskStudentIds.get(index % data.openTaskStudentIds.size()));
+    }
+}
@@ -2,8 +2,10 @@ package com.edulink.taskmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TaskmanagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(TaskmanagementApplication.class, args);
@@ -0,0 +1,52 @@
+package com.edulink.taskmanagement.command;
+
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.AnalyticsRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Backfill/consistency check: start with --edulink.analytics-rollup.rebuild=true to rebuild every tutor's score rollups
+@Component
+@ConditionalOnProperty(name = "edulink.analytics-rollup.rebuild", havingValue = "true")
+public class AnalyticsRollupRebuildCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsRollupRebuildCommand.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Value("${edulink.analytics-rollup.rebuild-batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Rebuilding score rollups in batches of {} tutors", batchSize);
+        long lastId = 0;
+        int tutors = 0;
+        int drifted = 0;
+        List<Long> batch;
+        do {
+            batch = userRepository.findIdsByRoleAfter("TUTOR", lastId, PageRequest.of(0, batchSize));
+            for (Long tutorId : batch) {
+                drifted += analyticsRollupService.verifyTutor(tutorId, true);
+                tutors++;
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == batchSize);
+        logger.info("Score rollup rebuild finished: {} tutors checked, {} buckets rebuilt", tutors, drifted);
+    }
+}
@@ -0,0 +1,58 @@
+package com.edulink.taskmanagement.command;
+
+import com.edulink.taskmanagement.repository.TaskRepository;
+import com.edulink.taskmanagement.service.AttachmentStorageService;
+import com.edulink.taskmanagement.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Backfill: start with --edulink.attachments.migrate=true to move "/uploads/<millis>_<name>" files into the
+// content-addressed store; identical files collapse into one blob and the old copies are deleted
+@Component
+@ConditionalOnProperty(name = "edulink.attachments.migrate", havingValue = "true")
+public class AttachmentMigrationCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentMigrationCommand.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private AttachmentStorageService attachmentStorageService;
+
+    @Value("${edulink.attachments.migrate-batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Migrating legacy attachments in batches of {}", batchSize);
+        long lastId = 0;
+        int migrated = 0;
+        List<Long> batch;
+        do {
+            batch = taskRepository.findLegacyAttachmentIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            // Old files are removed only once the tasks pointing at them are committed
+            List<String> moved = taskService.migrateLegacyAttachments(batch);
+            moved.forEach(attachmentStorageService::deleteLegacyUpload);
+            migrated += moved.size();
+            lastId = batch.get(batch.size() - 1);
+            logger.info("Migrated {} legacy attachments (last task id {})", migrated, lastId);
+        } while (batch.size() == batchSize);
+        logger.info("Legacy attachment migration finished: {} attachments", migrated);
+    }
+}
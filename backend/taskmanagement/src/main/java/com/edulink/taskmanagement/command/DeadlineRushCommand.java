@@ -0,0 +1,174 @@
+package com.edulink.taskmanagement.command;
+
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.repository.ProgressHistoryRepository;
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import com.edulink.taskmanagement.repository.ScoreRollupRepository;
+import com.edulink.taskmanagement.repository.StudentSummaryRepository;
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.ProgressService;
+import com.edulink.taskmanagement.service.SubmissionBatchService;
+import com.edulink.taskmanagement.service.TaskService;
+import com.edulink.taskmanagement.service.UserDirectoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Load scenario: start with --edulink.benchmark.deadline-rush=true to have every student of a class submit at
+// once, first through the one-transaction-per-request path and then through the buffered group commit. The fixture
+// tutor, students, tasks and submissions are deleted afterwards; their calendar change log entries age out.
+@Component
+@ConditionalOnProperty(name = "edulink.benchmark.deadline-rush", havingValue = "true")
+public class DeadlineRushCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineRushCommand.class);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private SubmissionBatchService submissionBatchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private ProgressHistoryRepository progressHistoryRepository;
+
+    @Autowired
+    private StudentSummaryRepository studentSummaryRepository;
+
+    @Autowired
+    private ScoreRollupRepository scoreRollupRepository;
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${edulink.benchmark.rush-students:500}")
+    private int studentCount;
+
+    @Value("${edulink.benchmark.rush-threads:64}")
+    private int threads;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        logger.info("Deadline rush: {} students submitting over {} threads", studentCount, threads);
+        User tutor = fixtureUser("TUTOR");
+        List<User> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            students.add(fixtureUser("STUDENT"));
+        }
+        List<Long> studentIds = students.stream().map(User::getId).toList();
+        List<Long> taskIds = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            Task direct = rushTask(tutor, studentIds, "direct");
+            taskIds.add(direct.getId());
+            rush("direct", pool, studentIds, (request, studentId) -> progressService.submitProgress(request, studentId), direct.getId());
+
+            Task buffered = rushTask(tutor, studentIds, "buffered");
+            taskIds.add(buffered.getId());
+            rush("buffered", pool, studentIds, (request, studentId) -> submissionBatchService.submit(request, studentId, null).join(), buffered.getId());
+        } finally {
+            pool.shutdownNow();
+            cleanUp(tutor.getId(), studentIds, taskIds);
+        }
+    }
+
+    private void rush(String mode, ExecutorService pool, List<Long> studentIds, Submitter submitter, Long taskId) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<Long>> latencies = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            latencies.add(pool.submit(() -> {
+                ProgressSubmissionRequest request = new ProgressSubmissionRequest();
+                request.setTaskId(taskId);
+                request.setPercentageComplete(100);
+                request.setComment("Deadline rush");
+                start.await();
+                long begin = System.nanoTime();
+                try {
+                    submitter.submit(request, studentId);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+                return System.nanoTime() - begin;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        long[] nanos = new long[latencies.size()];
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = latencies.get(i).get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        Arrays.sort(nanos);
+        logger.info(String.format("Deadline rush %s: %d submissions in %.0f ms (%.0f/s), p50 %.1f ms, p99 %.1f ms, max %.1f ms, %d failed",
+            mode, nanos.length, elapsed / 1e6, nanos.length / (elapsed / 1e9),
+            nanos[nanos.length / 2] / 1e6, nanos[(int) (nanos.length * 0.99)] / 1e6, nanos[nanos.length - 1] / 1e6, failures.get()));
+    }
+
+    private Task rushTask(User tutor, List<Long> studentIds, String mode) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Deadline rush (" + mode + ")");
+        request.setDescription("Created by the deadline rush load scenario");
+        request.setDeadline(LocalDateTime.now().plusMinutes(10));
+        request.setSubject("Benchmark");
+        request.setMaxScore(100);
+        request.setAssigneeIds(studentIds);
+        return taskService.createTask(request, tutor.getId());
+    }
+
+    private User fixtureUser(String role) {
+        User user = new User();
+        user.setEmail("rush-" + UUID.randomUUID() + "@example.invalid");
+        user.setName("Deadline rush " + role.toLowerCase());
+        user.setPassword("");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private void cleanUp(Long tutorId, List<Long> studentIds, List<Long> taskIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            progressHistoryRepository.deleteByTaskIds(taskIds);
+            progressRepository.deleteByTaskIds(taskIds);
+            scoreRollupRepository.deleteByTutorId(tutorId);
+        });
+        taskIds.forEach(taskService::deleteTask);
+        transactionTemplate.executeWithoutResult(status -> {
+            studentSummaryRepository.deleteAllById(studentIds);
+            userRepository.deleteAllById(studentIds);
+            userRepository.deleteById(tutorId);
+        });
+        studentIds.forEach(userDirectoryService::evict);
+        userDirectoryService.evict(tutorId);
+        logger.info("Deadline rush fixtures removed");
+    }
+
+    private interface Submitter {
+        void submit(ProgressSubmissionRequest request, Long studentId) throws Exception;
+    }
+}
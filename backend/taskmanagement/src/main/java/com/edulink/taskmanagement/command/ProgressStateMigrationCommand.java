@@ -0,0 +1,75 @@
+package com.edulink.taskmanagement.command;
+
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import com.edulink.taskmanagement.service.AnalyticsRollupService;
+import com.edulink.taskmanagement.service.ProgressService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Backfill: start with --edulink.progress.migrate=true (before taking traffic) to fold the old one-row-per-submission
+// progress table into one current row per (task, student), moving every older row into progress_history
+@Component
+@ConditionalOnProperty(name = "edulink.progress.migrate", havingValue = "true")
+public class ProgressStateMigrationCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressStateMigrationCommand.class);
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${edulink.progress.migrate-batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Collapsing progress rows in batches of {} tasks", batchSize);
+        long lastId = 0;
+        int tasks = 0;
+        Set<Long> tutors = new HashSet<>();
+        List<Long> batch;
+        do {
+            batch = progressRepository.findTaskIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            tutors.addAll(progressService.collapseLegacyRows(batch));
+            tasks += batch.size();
+            lastId = batch.get(batch.size() - 1);
+            logger.info("Collapsed progress rows of {} tasks (last task id {})", tasks, lastId);
+        } while (batch.size() == batchSize);
+
+        // Schema update could not add the key while duplicates existed
+        try {
+            jdbcTemplate.execute("ALTER TABLE progress ADD CONSTRAINT uk_progress_task_student UNIQUE (task_id, student_id)");
+            logger.info("Added unique key uk_progress_task_student");
+        } catch (DataAccessException e) {
+            logger.info("Unique key uk_progress_task_student already present");
+        }
+
+        // Rollup counts followed the number of rows, so tutors who had resubmissions are rebuilt
+        tutors.forEach(tutorId -> analyticsRollupService.verifyTutor(tutorId, true));
+        logger.info("Progress migration finished: {} tasks, {} tutors' rollups rebuilt", tasks, tutors.size());
+    }
+}
@@ -0,0 +1,225 @@
+package com.edulink.taskmanagement.command;
+
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.BulkTaskRequest;
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.repository.ProgressHistoryRepository;
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import com.edulink.taskmanagement.repository.ScoreRollupRepository;
+import com.edulink.taskmanagement.repository.StudentSummaryRepository;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.ProgressService;
+import com.edulink.taskmanagement.service.TaskService;
+import com.edulink.taskmanagement.service.UserDirectoryService;
+import com.edulink.taskmanagement.service.UserService;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Benchmark: start with --edulink.benchmark.read-paths=true to replay the by-id reads behind submissions, grading and
+// the settings page, first with the second-level cache bypassed and then with it warm. Each request is its own
+// transaction with an empty persistence context. Fixtures are deleted afterwards.
+@Component
+@ConditionalOnProperty(name = "edulink.benchmark.read-paths", havingValue = "true")
+public class ReadPathBenchmarkCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadPathBenchmarkCommand.class);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private ProgressHistoryRepository progressHistoryRepository;
+
+    @Autowired
+    private StudentSummaryRepository studentSummaryRepository;
+
+    @Autowired
+    private ScoreRollupRepository scoreRollupRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${edulink.benchmark.read-students:30}")
+    private int studentCount;
+
+    @Value("${edulink.benchmark.read-tasks:10}")
+    private int taskCount;
+
+    @Value("${edulink.benchmark.read-requests:3000}")
+    private int requestCount;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Benchmarking read paths: {} students x {} tasks, {} requests per mode", studentCount, taskCount, requestCount);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+
+        User tutor = fixtureUser("TUTOR");
+        List<Long> studentIds = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            studentIds.add(fixtureUser("STUDENT").getId());
+        }
+        List<Long> taskIds = new ArrayList<>();
+        try {
+            taskService.createTasks(bulkRequest(studentIds), tutor.getId()).forEach(task -> taskIds.add(task.getId()));
+            List<Long> progressIds = new ArrayList<>();
+            for (Long taskId : taskIds) {
+                for (Long studentId : studentIds) {
+                    ProgressSubmissionRequest request = new ProgressSubmissionRequest();
+                    request.setTaskId(taskId);
+                    request.setPercentageComplete(50);
+                    progressIds.add(progressService.submitProgress(request, studentId).getId());
+                }
+            }
+
+            double[] uncached = replay(false, statistics, tutor.getId(), taskIds, studentIds, progressIds);
+            // One pass to warm the regions, then the measured one
+            replay(true, statistics, tutor.getId(), taskIds, studentIds, progressIds);
+            double[] cached = replay(true, statistics, tutor.getId(), taskIds, studentIds, progressIds);
+            logger.info(String.format("Read path benchmark: %.2f -> %.2f statements/request (%.0f%% fewer), %.3f -> %.3f ms/request",
+                uncached[0], cached[0], 100 * (1 - cached[0] / uncached[0]), uncached[1], cached[1]));
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+            cleanUp(tutor.getId(), studentIds, taskIds);
+        }
+    }
+
+    // [statements per request, ms per request]; requests rotate between the three paths
+    private double[] replay(boolean useCache, Statistics statistics, Long tutorId,
+                            List<Long> taskIds, List<Long> studentIds, List<Long> progressIds) {
+        Random random = new Random(42);
+        long statements = statistics.getPrepareStatementCount();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount();
+        long start = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            int path = i % 3;
+            Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+            Long studentId = studentIds.get(random.nextInt(studentIds.size()));
+            Long progressId = progressIds.get(random.nextInt(progressIds.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.setProperty("jakarta.persistence.cache.retrieveMode", useCache ? CacheRetrieveMode.USE : CacheRetrieveMode.BYPASS);
+                entityManager.setProperty("jakarta.persistence.cache.storeMode", useCache ? CacheStoreMode.USE : CacheStoreMode.BYPASS);
+                switch (path) {
+                    case 0 -> submissionChecks(taskId, studentId);
+                    case 1 -> gradingChecks(progressId, tutorId);
+                    default -> userService.getUserById(studentId);
+                }
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+        double[] perRequest = {
+            (double) (statistics.getPrepareStatementCount() - statements) / requestCount, elapsed / 1e6 / requestCount
+        };
+        logger.info(String.format("Read paths %s: %.2f statements/request, %.3f ms/request, %d second-level hits, %d misses",
+            useCache ? "cached" : "uncached", perRequest[0], perRequest[1],
+            statistics.getSecondLevelCacheHitCount() - hits, statistics.getSecondLevelCacheMissCount() - misses));
+        return perRequest;
+    }
+
+    // The reads ProgressServiceImpl.submitProgress makes before writing
+    private void submissionChecks(Long taskId, Long studentId) {
+        Task task = taskRepository.findById(taskId).orElseThrow(() -> new RuntimeException("Task not found"));
+        User student = userRepository.findById(studentId).orElseThrow(() -> new RuntimeException("Student not found"));
+        if (!task.getAssignees().contains(student) || LocalDateTime.now().isAfter(task.getDeadline())) {
+            throw new IllegalStateException("Fixture task does not accept this student");
+        }
+    }
+
+    // The reads ProgressServiceImpl.gradeSubmission makes before writing
+    private void gradingChecks(Long progressId, Long tutorId) {
+        Progress progress = progressRepository.findById(progressId).orElseThrow(() -> new RuntimeException("Progress not found"));
+        User tutor = userRepository.findById(tutorId).orElseThrow(() -> new RuntimeException("Tutor not found"));
+        if (!progress.getTask().getCreatedBy().equals(tutor)) {
+            throw new IllegalStateException("Fixture submission belongs to another tutor");
+        }
+    }
+
+    private BulkTaskRequest bulkRequest(List<Long> studentIds) {
+        BulkTaskRequest bulkRequest = new BulkTaskRequest();
+        bulkRequest.setAssigneeIds(studentIds);
+        for (int i = 0; i < taskCount; i++) {
+            TaskRequest request = new TaskRequest();
+            request.setTitle("Read benchmark task " + i);
+            request.setDescription("Created by the read path benchmark");
+            request.setDeadline(LocalDateTime.now().plusDays(1));
+            request.setSubject("Benchmark");
+            request.setMaxScore(100);
+            bulkRequest.getTasks().add(request);
+        }
+        return bulkRequest;
+    }
+
+    private User fixtureUser(String role) {
+        User user = new User();
+        user.setEmail("read-" + UUID.randomUUID() + "@example.invalid");
+        user.setName("Read benchmark " + role.toLowerCase());
+        user.setPassword("");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private void cleanUp(Long tutorId, List<Long> studentIds, List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                progressHistoryRepository.deleteByTaskIds(taskIds);
+                progressRepository.deleteByTaskIds(taskIds);
+                scoreRollupRepository.deleteByTutorId(tutorId);
+            });
+        }
+        taskIds.forEach(taskService::deleteTask);
+        transactionTemplate.executeWithoutResult(status -> {
+            studentSummaryRepository.deleteAllById(studentIds);
+            userRepository.deleteAllById(studentIds);
+            userRepository.deleteById(tutorId);
+        });
+        studentIds.forEach(userDirectoryService::evict);
+        userDirectoryService.evict(tutorId);
+        logger.info("Read path benchmark fixtures removed");
+    }
+}
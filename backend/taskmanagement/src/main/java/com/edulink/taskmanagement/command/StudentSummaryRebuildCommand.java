@@ -0,0 +1,50 @@
+package com.edulink.taskmanagement.command;
+
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.StudentSummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Backfill: start with --edulink.student-summary.rebuild=true to recompute every student summary
+@Component
+@ConditionalOnProperty(name = "edulink.student-summary.rebuild", havingValue = "true")
+public class StudentSummaryRebuildCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentSummaryRebuildCommand.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentSummaryService studentSummaryService;
+
+    @Value("${edulink.student-summary.rebuild-batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Rebuilding student summaries in batches of {}", batchSize);
+        long lastId = 0;
+        int rebuilt = 0;
+        List<Long> batch;
+        do {
+            batch = userRepository.findIdsByRoleAfter("STUDENT", lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            rebuilt += studentSummaryService.rebuild(batch);
+            lastId = batch.get(batch.size() - 1);
+            logger.info("Rebuilt {} student summaries (last id {})", rebuilt, lastId);
+        } while (batch.size() == batchSize);
+        logger.info("Student summary rebuild finished: {} students", rebuilt);
+    }
+}
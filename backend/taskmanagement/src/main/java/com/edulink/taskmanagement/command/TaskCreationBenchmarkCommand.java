@@ -0,0 +1,151 @@
+package com.edulink.taskmanagement.command;
+
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.BulkTaskRequest;
+import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.TaskService;
+import com.edulink.taskmanagement.service.UserDirectoryService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Benchmark: start with --edulink.benchmark.task-creation=true to compare the per-task cost of POST /api/tasks
+// with POST /api/tasks/bulk on the configured database. Fixture users and tasks live in one transaction that is
+// rolled back, so commit time is left out of both paths; round 1 includes warm-up and is not averaged.
+@Component
+@ConditionalOnProperty(name = "edulink.benchmark.task-creation", havingValue = "true")
+public class TaskCreationBenchmarkCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCreationBenchmarkCommand.class);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${edulink.benchmark.tasks:50}")
+    private int taskCount;
+
+    @Value("${edulink.benchmark.students:30}")
+    private int studentCount;
+
+    @Value("${edulink.benchmark.rounds:5}")
+    private int rounds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Benchmarking task creation: {} tasks x {} students, {} rounds", taskCount, studentCount, rounds);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        List<Long> fixtureIds = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                User tutor = fixtureUser("TUTOR");
+                List<Long> studentIds = new ArrayList<>();
+                for (int i = 0; i < studentCount; i++) {
+                    studentIds.add(fixtureUser("STUDENT").getId());
+                }
+                fixtureIds.add(tutor.getId());
+                fixtureIds.addAll(studentIds);
+                entityManager.flush();
+
+                double[] totals = new double[4];
+                for (int round = 1; round <= rounds; round++) {
+                    long[] single = measure(statistics, () -> {
+                        for (int i = 0; i < taskCount; i++) {
+                            taskService.createTask(taskRequest(i, studentIds), tutor.getId());
+                            entityManager.flush();
+                            entityManager.clear(); // each request starts with an empty persistence context
+                        }
+                    });
+                    long[] bulk = measure(statistics, () -> {
+                        BulkTaskRequest bulkRequest = new BulkTaskRequest();
+                        bulkRequest.setAssigneeIds(studentIds);
+                        for (int i = 0; i < taskCount; i++) {
+                            bulkRequest.getTasks().add(taskRequest(i, null));
+                        }
+                        taskService.createTasks(bulkRequest, tutor.getId());
+                        entityManager.flush();
+                    });
+                    entityManager.clear();
+
+                    double[] perTask = {
+                        single[0] / 1e6 / taskCount, (double) single[1] / taskCount,
+                        bulk[0] / 1e6 / taskCount, (double) bulk[1] / taskCount
+                    };
+                    logger.info(String.format("Round %d: single %.3f ms/task, %.1f statements/task; bulk %.3f ms/task, %.1f statements/task",
+                        round, perTask[0], perTask[1], perTask[2], perTask[3]));
+                    if (round > 1 || rounds == 1) {
+                        for (int i = 0; i < totals.length; i++) {
+                            totals[i] += perTask[i];
+                        }
+                    }
+                }
+                int measured = Math.max(1, rounds - 1);
+                logger.info(String.format("Task creation benchmark: single %.3f ms/task (%.1f statements), bulk %.3f ms/task (%.1f statements), %.1fx faster",
+                    totals[0] / measured, totals[1] / measured, totals[2] / measured, totals[3] / measured, totals[0] / totals[2]));
+            });
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+            fixtureIds.forEach(userDirectoryService::evict);
+            // Fixtures loaded inside the rolled-back transaction may have reached the second-level cache
+            entityManager.getEntityManagerFactory().getCache().evictAll();
+        }
+    }
+
+    // [elapsed nanos, prepared statements]
+    private long[] measure(Statistics statistics, Runnable work) {
+        long statements = statistics.getPrepareStatementCount();
+        long start = System.nanoTime();
+        work.run();
+        return new long[]{System.nanoTime() - start, statistics.getPrepareStatementCount() - statements};
+    }
+
+    private User fixtureUser(String role) {
+        User user = new User();
+        user.setEmail("benchmark-" + UUID.randomUUID() + "@example.invalid");
+        user.setName("Benchmark " + role.toLowerCase());
+        user.setPassword("");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private TaskRequest taskRequest(int index, List<Long> assigneeIds) {
+        TaskRequest request = new TaskRequest();
+        request.setTitle("Benchmark task " + index);
+        request.setDescription("Created by the task creation benchmark");
+        request.setDeadline(LocalDateTime.now().plusDays(7));
+        request.setSubject("Benchmark");
+        request.setMaxScore(100);
+        request.setAssigneeIds(assigneeIds);
+        return request;
+    }
+}
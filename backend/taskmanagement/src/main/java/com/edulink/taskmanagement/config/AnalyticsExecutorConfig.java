@@ -0,0 +1,29 @@
+package com.edulink.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// Runs the independent reads behind one dashboard request side by side. Bounded in threads and queue; once both are
+// full the request thread does the work itself, so a burst slows down instead of failing. Each busy thread holds a
+// pooled connection, so the connection pool must stay larger than the thread count
+@Configuration
+public class AnalyticsExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor analyticsExecutor(@Value("${edulink.analytics.dashboard-threads:4}") int threads,
+                                                    @Value("${edulink.analytics.dashboard-queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analytics-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // Statements run here count towards the request's SQL budget
+        executor.setTaskDecorator(StatementRecorder::propagate);
+        return executor;
+    }
+}
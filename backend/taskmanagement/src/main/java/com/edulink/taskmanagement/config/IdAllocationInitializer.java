@@ -0,0 +1,41 @@
+package com.edulink.taskmanagement.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Tables that moved from IDENTITY to the pooled id_allocations generator keep their existing ids, so each
+// counter is raised past MAX(id) before the first insert. A stored value v only hands out ids above v - 50.
+@Component
+public class IdAllocationInitializer {
+
+    private static final int ALLOCATION_SIZE = 50;
+    // Each counter is named after the table it allocates ids for
+    private static final List<String> TABLES = List.of("tasks", "calendar_changes");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void raiseCounters() {
+        transactionTemplate.executeWithoutResult(status -> TABLES.forEach(table -> {
+            entityManager.createNativeQuery("INSERT INTO id_allocations (sequence_name, next_val) VALUES (:name, 0) " +
+                    "ON DUPLICATE KEY UPDATE sequence_name = sequence_name")
+                .setParameter("name", table)
+                .executeUpdate();
+            entityManager.createNativeQuery("UPDATE id_allocations SET next_val = " +
+                    "GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + " + ALLOCATION_SIZE + " FROM " + table + ")) " +
+                    "WHERE sequence_name = :name")
+                .setParameter("name", table)
+                .executeUpdate();
+        }));
+    }
+}
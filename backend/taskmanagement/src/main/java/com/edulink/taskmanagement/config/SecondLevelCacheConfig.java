@@ -0,0 +1,51 @@
+package com.edulink.taskmanagement.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Hibernate second-level cache regions for the read-mostly entities, held in local Caffeine caches. Each region is
+// sized and expired from edulink.cache.<region>.*; Hibernate refuses to start if an entity names a region not built here.
+// The cache is per node: another node's writes are only seen once the entry expires.
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // The regions named by @Cache on User, Task and Task.assignees
+    public static final List<String> REGIONS = List.of("users", "tasks", "task-assignees");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment environment) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A manager of its own per application context, so contexts in one JVM don't share regions
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("edulink-second-level-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(
+                environment.getProperty("edulink.cache." + region + ".max-entries", Long.class, 10_000L)));
+            configuration.setExpireAfterWrite(OptionalLong.of(
+                environment.getProperty("edulink.cache." + region + ".ttl", Duration.class, Duration.ofMinutes(10)).toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
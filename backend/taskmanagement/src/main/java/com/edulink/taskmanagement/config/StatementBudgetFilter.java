@@ -0,0 +1,72 @@
+package com.edulink.taskmanagement.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Records the statements of each HTTP request and warns, with the path and the most repeated statements, when a
+// request goes over the budget: a long list of one repeated SELECT is the usual sign of an N+1
+@Component
+@ConditionalOnProperty(name = "edulink.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    @Value("${edulink.sql-budget.max-statements:30}")
+    private int maxStatements;
+
+    @Value("${edulink.sql-budget.top-statements:3}")
+    private int topStatements;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementRecorder recorder = StatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.close();
+        }
+        if (!isAsyncStarted(request)) {
+            check(request, recorder);
+            return;
+        }
+        // Streamed and deferred responses keep recording on the async executor until the response completes
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                check(request, recorder);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    private void check(HttpServletRequest request, StatementRecorder recorder) {
+        if (recorder.getCount() > maxStatements) {
+            logger.warn("{} {} issued {} SQL statements (budget {}); most repeated: {}", request.getMethod(),
+                request.getRequestURI(), recorder.getCount(), maxStatements, recorder.getTopStatements(topStatements));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.edulink.taskmanagement.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Wraps the DataSource so every statement prepared through it, by Hibernate or by JdbcTemplate, is reported to
+// StatementRecorder. A JDBC batch counts once: it is one prepared statement and one round trip.
+@Configuration
+@ConditionalOnProperty(name = "edulink.sql-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementCountingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Streamed and deferred MVC responses run on this executor; it is the thread-per-task executor MVC falls back to
+    // (there is no applicationTaskExecutor next to analyticsExecutor), with their statements counted to the request
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("MvcAsync");
+        executor.setTaskDecorator(StatementRecorder::propagate);
+        configurer.setTaskExecutor(executor);
+    }
+
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    // Identity of the proxy itself, so Spring can match a bound connection against the one it was given
+                    if (name.equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ((name.equals("prepareStatement") || name.equals("prepareCall")) && args[0] instanceof String sql) {
+                        StatementRecorder.record(sql);
+                    }
+                    Object result = invoke(connection, method, args);
+                    return name.equals("createStatement") ? counting((Statement) result) : result;
+                });
+        }
+
+        // Plain statements carry their SQL on execute rather than on creation
+        private static Statement counting(Statement statement) {
+            return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {Statement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute") && args != null && args[0] instanceof String sql) {
+                        StatementRecorder.record(sql);
+                    } else if (method.getName().equals("executeBatch")) {
+                        StatementRecorder.record("<statement batch>");
+                    }
+                    return invoke(statement, method, args);
+                });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.edulink.taskmanagement.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Counts the JDBC statements prepared on the current thread while a recording is open. Recordings nest: a statement
+// is counted by every open recording on the thread, so a test can wrap a request that StatementBudgetFilter also
+// records. Work handed to another thread is only counted if the task was wrapped with propagate.
+public class StatementRecorder implements AutoCloseable {
+
+    private static final ThreadLocal<StatementRecorder> CURRENT = new ThreadLocal<>();
+
+    private final StatementRecorder parent;
+    private final Map<String, Integer> counts = new HashMap<>();
+    private int total;
+
+    private StatementRecorder(StatementRecorder parent) {
+        this.parent = parent;
+    }
+
+    public static StatementRecorder start() {
+        StatementRecorder recorder = new StatementRecorder(CURRENT.get());
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    static void record(String sql) {
+        for (StatementRecorder recorder = CURRENT.get(); recorder != null; recorder = recorder.parent) {
+            recorder.add(sql);
+        }
+    }
+
+    // Runs the task under the recording open where it was submitted (a TaskDecorator for executors)
+    public static Runnable propagate(Runnable task) {
+        StatementRecorder submitter = CURRENT.get();
+        if (submitter == null) {
+            return task;
+        }
+        return () -> {
+            StatementRecorder previous = CURRENT.get();
+            CURRENT.set(submitter);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    private synchronized void add(String sql) {
+        counts.merge(sql, 1, Integer::sum);
+        total++;
+    }
+
+    public synchronized int getCount() {
+        return total;
+    }
+
+    // The most repeated statements first, as "<count>x <sql>"
+    public synchronized List<String> getTopStatements(int limit) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        List<String> top = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            top.add(entry.getValue() + "x " + entry.getKey());
+        }
+        return top;
+    }
+
+    @Override
+    public void close() {
+        CURRENT.set(parent);
+    }
+}
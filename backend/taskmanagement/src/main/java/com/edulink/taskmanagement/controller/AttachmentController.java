@@ -0,0 +1,165 @@
+package com.edulink.taskmanagement.controller;
+
+import com.edulink.taskmanagement.model.Attachment;
+import com.edulink.taskmanagement.service.AttachmentStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@RestController
+@RequestMapping("/api/attachments")
+@CrossOrigin(origins = "http://localhost:3000")
+public class AttachmentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentController.class);
+
+    // Tomcat's NIO connector sends the file from its poller with FileChannel.transferTo when these are set
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    @Autowired
+    private AttachmentStorageService attachmentStorageService;
+
+    // The trailing file name is cosmetic (it is what the frontend displays); content is looked up by hash
+    @GetMapping({"/{hash}", "/{hash}/{fileName}"})
+    public void download(
+            @PathVariable String hash,
+            @PathVariable(required = false) String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        logger.info("Downloading attachment {}", hash);
+        Path path;
+        Optional<Attachment> attachment;
+        try {
+            path = attachmentStorageService.resolve(hash);
+            attachment = attachmentStorageService.findAttachment(hash);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        if (attachment.isEmpty() || !Files.isRegularFile(path)) {
+            logger.warn("Attachment {} not found", hash);
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        // Content never changes for a hash, so the hash itself is a strong validator
+        String etag = "\"" + hash + "\"";
+        long lastModified = attachment.get().getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+        response.setContentType(attachment.get().getContentType() != null ? attachment.get().getContentType() : "application/octet-stream");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(fileName != null ? fileName : hash, StandardCharsets.UTF_8).build().toString());
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        long[] requested = range != null && ifRangeMatches(request, etag, lastModified) ? parseRange(range, length) : null;
+        if (requested != null) {
+            if (requested[0] >= length) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setContentLengthLong(0);
+                return;
+            }
+            start = requested[0];
+            end = Math.min(end, requested[1]);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            logger.debug("Attachment {} bytes {}-{} handed to sendfile", hash, start, end);
+            return;
+        }
+
+        // Without sendfile (MockMvc, other containers) transferTo still lets the JDK pick its cheapest copy path
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        } catch (IOException e) {
+            // Usually the client went away mid-download; resumable clients come back with a Range
+            logger.debug("Attachment {} download interrupted", hash, e);
+        }
+    }
+
+    // {first, last} of a single byte range, or null to ignore the header and send everything: multi-range requests (a
+    // full 200 is allowed), a last before the first (invalid, RFC 9110 14.1.1) and numbers too long to parse. A first
+    // at or past the length comes back as is, for a 416
+    private static long[] parseRange(String range, long length) {
+        Matcher matcher = SINGLE_RANGE.matcher(range.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            if (matcher.group(1).isEmpty()) {
+                // The last N bytes; a zero-length suffix is unsatisfiable
+                long suffix = Long.parseLong(matcher.group(2));
+                return new long[] {suffix == 0 ? length : Math.max(0, length - suffix), length - 1};
+            }
+            long first = Long.parseLong(matcher.group(1));
+            long last = matcher.group(2).isEmpty() ? Long.MAX_VALUE : Long.parseLong(matcher.group(2));
+            return last < first ? null : new long[] {first, last};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // If-Range: serve the range only if the client's copy is still current
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
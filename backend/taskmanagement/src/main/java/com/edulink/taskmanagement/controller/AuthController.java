@@ -6,6 +6,7 @@ import com.edulink.taskmanagement.payload.request.SignupRequest;
 import com.edulink.taskmanagement.payload.response.MessageResponse;
 import com.edulink.taskmanagement.payload.response.UserResponse;
 import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.UserDirectoryService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +23,9 @@ public class AuthController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
     @PostMapping("/signup")
     public ResponseEntity<?> registerUser(@Valid @RequestBody SignupRequest signupRequest) {
 
@@ -48,7 +52,8 @@ public class AuthController {
         user.setName(signupRequest.getName());
         user.setRole(signupRequest.getRole());
 
-        userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userDirectoryService.evict(savedUser.getId());
 
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
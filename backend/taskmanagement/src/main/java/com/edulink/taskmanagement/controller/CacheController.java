@@ -0,0 +1,34 @@
+package com.edulink.taskmanagement.controller;
+
+import com.edulink.taskmanagement.payload.response.CacheStatisticsResponse;
+import com.edulink.taskmanagement.service.SecondLevelCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CacheController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheController.class);
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheStatisticsResponse>> getStatistics() {
+        logger.info("Fetching second-level cache statistics");
+        try {
+            List<CacheStatisticsResponse> statistics = secondLevelCacheService.getStatistics();
+            return ResponseEntity.ok(statistics);
+        } catch (Exception e) {
+            logger.error("Error fetching second-level cache statistics", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.edulink.taskmanagement.controller;
 
-import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.payload.response.CalendarEventResponse;
+import com.edulink.taskmanagement.service.CalendarFeedService;
 import com.edulink.taskmanagement.service.TaskService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -21,15 +27,18 @@ public class CalendarController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
     @GetMapping("/tasks")
-    public ResponseEntity<List<Task>> getTasksForMonth(
+    public ResponseEntity<List<CalendarEventResponse>> getTasksForMonth(
             @RequestParam Long userId,
             @RequestParam String role,
             @RequestParam int year,
             @RequestParam int month) {
         logger.info("Fetching tasks for userId: {}, role: {}, year: {}, month: {}", userId, role, year, month);
         try {
-            List<Task> tasks = taskService.getTasksForMonth(userId, role, year, month);
+            List<CalendarEventResponse> tasks = taskService.getTasksForMonth(userId, role, year, month);
             logger.debug("Tasks retrieved: {}", tasks.size());
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
@@ -40,14 +49,14 @@ public class CalendarController {
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Task>> getUpcomingEvents(
+    public ResponseEntity<List<CalendarEventResponse>> getUpcomingEvents(
             @RequestParam Long userId,
             @RequestParam String role,
             @RequestParam String from) {
         logger.info("Fetching upcoming events for userId: {}, role: {}, from: {}", userId, role, from);
         try {
             LocalDateTime fromDate = LocalDateTime.parse(from);
-            List<Task> events = taskService.getUpcomingEvents(userId, role, fromDate);
+            List<CalendarEventResponse> events = taskService.getUpcomingEvents(userId, role, fromDate);
             logger.debug("Upcoming events retrieved: {}", events.size());
             return ResponseEntity.ok(events);
         } catch (Exception e) {
@@ -56,4 +65,36 @@ public class CalendarController {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    // Subscribable .ics feed; pass the X-Sync-Token from a previous response as "since" to get only changes
+    @GetMapping("/feed/{userId}.ics")
+    public ResponseEntity<String> getFeed(
+            @PathVariable Long userId,
+            @RequestParam String role,
+            @RequestParam(required = false) String since,
+            WebRequest webRequest) {
+        logger.info("Fetching calendar feed for userId: {}, role: {}, since: {}", userId, role, since);
+        try {
+            Long sinceVersion = since != null ? calendarFeedService.parseSyncToken(since) : null;
+            // Read before rendering: a change landing mid-render is simply sent again next time
+            long version = calendarFeedService.getVersion(userId, role);
+            String etag = "W/\"" + userId + "-" + version + (sinceVersion != null ? "-" + sinceVersion : "") + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            String token = calendarFeedService.syncToken(version);
+            String feed = calendarFeedService.renderFeed(userId, role, sinceVersion, version);
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8))
+                    .cacheControl(CacheControl.noCache())
+                    .header("X-Sync-Token", token)
+                    .body(feed);
+        } catch (IllegalStateException e) {
+            logger.warn("Expired sync token for userId: {}: {}", userId, since);
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        } catch (Exception e) {
+            logger.error("Error fetching calendar feed for userId: {}, role: {}", userId, role, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
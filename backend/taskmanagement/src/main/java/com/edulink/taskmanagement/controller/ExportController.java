@@ -0,0 +1,55 @@
+package com.edulink.taskmanagement.controller;
+
+import com.edulink.taskmanagement.service.ExportService;
+import com.edulink.taskmanagement.service.UserDirectoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @GetMapping("/tasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam Long tutorId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) LocalDateTime from,
+            @RequestParam(required = false) LocalDateTime to) {
+        logger.info("Exporting tasks for tutorId: {}, format: {}, from: {}, to: {}", tutorId, format, from, to);
+        try {
+            if (!"ndjson".equalsIgnoreCase(format) && !"csv".equalsIgnoreCase(format)) {
+                throw new IllegalArgumentException("Invalid format: " + format);
+            }
+            userDirectoryService.getUser(tutorId, "TUTOR");
+            boolean csv = "csv".equalsIgnoreCase(format);
+            StreamingResponseBody body = out -> {
+                exportService.exportTutorData(tutorId, from, to, format, out);
+                logger.info("Export finished for tutorId: {}", tutorId);
+            };
+            return ResponseEntity.ok()
+                    .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks-" + tutorId + (csv ? ".csv" : ".ndjson") + "\"")
+                    .body(body);
+        } catch (Exception e) {
+            logger.error("Error exporting tasks for tutorId: {}, format: {}", tutorId, format, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
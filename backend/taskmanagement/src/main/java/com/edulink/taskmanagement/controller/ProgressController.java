@@ -1,18 +1,35 @@
 package com.edulink.taskmanagement.controller;
 
 import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.ProgressHistory;
+import com.edulink.taskmanagement.payload.request.BatchGradeRequest;
 import com.edulink.taskmanagement.payload.request.ProgressRequest;
 import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.response.BatchGradeResponse;
+import com.edulink.taskmanagement.payload.response.CursorPage;
+import com.edulink.taskmanagement.payload.response.ProgressResponse;
+import com.edulink.taskmanagement.service.IdempotencyKeyReusedException;
+import com.edulink.taskmanagement.service.IdempotencyService;
+import com.edulink.taskmanagement.service.ProgressHistoryService;
 import com.edulink.taskmanagement.service.ProgressService;
+import com.edulink.taskmanagement.service.SubmissionBatchService;
+import com.edulink.taskmanagement.service.SubmissionQueueFullException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/progress")
@@ -23,11 +40,37 @@ public class ProgressController {
     @Autowired
     private ProgressService progressService;
 
+    @Autowired
+    private SubmissionBatchService submissionBatchService;
+
+    @Autowired
+    private ProgressHistoryService progressHistoryService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Value("${edulink.submissions.buffered:true}")
+    private boolean bufferedSubmissions;
+
+    @Value("${edulink.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${edulink.pagination.max-size:500}")
+    private int maxPageSize;
+
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<Progress>> getProgressByTask(@PathVariable Long taskId) {
+    public ResponseEntity<?> getProgressByTask(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         logger.info("Fetching progress for taskId: {}", taskId);
         try {
-            List<Progress> progress = progressService.getProgressByTaskId(taskId);
+            if (isPaged(cursor, size)) {
+                CursorPage<ProgressResponse> page = progressService.getProgressByTaskIdPage(taskId, cursor, pageSize(size));
+                logger.debug("Progress page retrieved for taskId: {}, count: {}", taskId, page.getItems().size());
+                return ResponseEntity.ok(page);
+            }
+            List<ProgressResponse> progress = progressService.getProgressByTaskId(taskId);
             logger.debug("Progress retrieved for taskId: {}, count: {}", taskId, progress.size());
             return ResponseEntity.ok(progress);
         } catch (Exception e) {
@@ -37,10 +80,18 @@ public class ProgressController {
     }
 
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Progress>> getProgressByStudent(@PathVariable Long studentId) {
+    public ResponseEntity<?> getProgressByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         logger.info("Fetching progress for studentId: {}", studentId);
         try {
-            List<Progress> progress = progressService.getProgressByStudent(studentId);
+            if (isPaged(cursor, size)) {
+                CursorPage<ProgressResponse> page = progressService.getProgressByStudentPage(studentId, cursor, pageSize(size));
+                logger.debug("Progress page retrieved for studentId: {}, count: {}", studentId, page.getItems().size());
+                return ResponseEntity.ok(page);
+            }
+            List<ProgressResponse> progress = progressService.getProgressByStudent(studentId);
             logger.debug("Progress retrieved for studentId: {}, count: {}", studentId, progress.size());
             return ResponseEntity.ok(progress);
         } catch (Exception e) {
@@ -49,17 +100,45 @@ public class ProgressController {
         }
     }
 
+    // Buffered mode answers once the group commit holding the submission is durable; the request thread is
+    // released while it waits
     @PostMapping("/submit")
-    public ResponseEntity<?> submitProgress(@Valid @RequestBody ProgressSubmissionRequest submissionRequest, @RequestParam Long studentId) {
+    public CompletableFuture<ResponseEntity<ProgressResponse>> submitProgress(
+            @Valid @RequestBody ProgressSubmissionRequest submissionRequest,
+            @RequestParam Long studentId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         logger.info("Submitting progress for studentId: {}", studentId);
+        CompletableFuture<ProgressResponse> submission;
         try {
-            Progress progress = progressService.submitProgress(submissionRequest, studentId);
-            logger.info("Progress submitted successfully for studentId: {}", studentId);
-            return ResponseEntity.ok(progress);
+            submission = bufferedSubmissions
+                ? submissionBatchService.submit(submissionRequest, studentId, idempotencyKey)
+                : CompletableFuture.completedFuture(idempotencyService.execute("progress-submit:" + studentId,
+                    idempotencyKey, submissionRequest, new TypeReference<ProgressResponse>() {},
+                    () -> ProgressResponse.from(progressService.submitProgress(submissionRequest, studentId))));
+        } catch (IdempotencyKeyReusedException e) {
+            logger.warn("Rejected submission for studentId: {}: {}", studentId, e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.unprocessableEntity().build());
+        } catch (SubmissionQueueFullException e) {
+            logger.warn("Submission queue full, rejecting submission for studentId: {}", studentId);
+            return CompletableFuture.completedFuture(
+                ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build());
         } catch (Exception e) {
             logger.error("Error submitting progress for studentId: {}", studentId, e);
-            return ResponseEntity.badRequest().build();
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
+        return submission.handle((progress, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof IdempotencyKeyReusedException) {
+                logger.warn("Rejected submission for studentId: {}: {}", studentId, cause.getMessage());
+                return ResponseEntity.unprocessableEntity().build();
+            }
+            if (cause != null) {
+                logger.error("Error submitting progress for studentId: {}", studentId, cause);
+                return ResponseEntity.badRequest().build();
+            }
+            logger.info("Progress submitted successfully for studentId: {}", studentId);
+            return ResponseEntity.ok(progress);
+        });
     }
 
     @PutMapping("/grade/{progressId}")
@@ -68,13 +147,43 @@ public class ProgressController {
         try {
             Progress gradedProgress = progressService.gradeSubmission(progressId, progressRequest, tutorId);
             logger.info("Submission graded successfully for progressId: {}", progressId);
-            return ResponseEntity.ok(gradedProgress);
+            return ResponseEntity.ok(ProgressResponse.from(gradedProgress));
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("Grading of progressId: {} kept conflicting with concurrent updates", progressId);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             logger.error("Error grading submission for progressId: {}, tutorId: {}", progressId, tutorId, e);
             return ResponseEntity.badRequest().build();
         }
     }
 
+    @PutMapping("/grade/task/{taskId}")
+    public ResponseEntity<?> gradeSubmissions(@PathVariable Long taskId, @RequestBody BatchGradeRequest batchGradeRequest, @RequestParam Long tutorId) {
+        logger.info("Batch grading {} submissions for taskId: {}, tutorId: {}",
+            batchGradeRequest.getGrades() != null ? batchGradeRequest.getGrades().size() : 0, taskId, tutorId);
+        try {
+            BatchGradeResponse response = progressService.gradeSubmissions(taskId, batchGradeRequest.getGrades(), tutorId);
+            logger.info("Batch grading for taskId {}: {} graded, {} failed", taskId, response.getGraded(), response.getFailed());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("Error batch grading submissions for taskId: {}, tutorId: {}", taskId, tutorId, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{progressId}/history")
+    public ResponseEntity<?> getProgressHistory(@PathVariable Long progressId) {
+        logger.info("Fetching progress history for progressId: {}", progressId);
+        try {
+            List<ProgressHistory> history = progressHistoryService.getHistory(progressId);
+            logger.debug("Progress history retrieved for progressId: {}, count: {}", progressId, history.size());
+            return ResponseEntity.ok(history);
+        } catch (Exception e) {
+            logger.error("Error fetching progress history for progressId: {}", progressId, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/statistics/task/{taskId}")
     public ResponseEntity<Map<String, Object>> getTaskStatistics(@PathVariable Long taskId) {
         logger.info("Fetching task statistics for taskId: {}", taskId);
@@ -87,4 +196,13 @@ public class ProgressController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    private boolean isPaged(String cursor, Integer size) {
+        return cursor != null || size != null;
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) return defaultPageSize;
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package com.edulink.taskmanagement.controller;
 
+import com.edulink.taskmanagement.payload.response.DashboardResponse;
+import com.edulink.taskmanagement.service.AnalyticsRollupService;
+import com.edulink.taskmanagement.service.DataVersionService;
 import com.edulink.taskmanagement.service.TaskService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,15 +28,25 @@ public class StatisticsController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     @GetMapping("/task-completion-rate")
     public ResponseEntity<List<Double>> getTaskCompletionRate(
             @RequestParam Long tutorId,
             @RequestParam(required = false) Long studentId,
             @RequestParam(defaultValue = "all-subjects") String subject,
-            @RequestParam(defaultValue = "weekly") String period) {
+            @RequestParam(defaultValue = "weekly") String period,
+            WebRequest webRequest) {
         logger.info("Fetching task completion rate for tutorId: {}, studentId: {}, subject: {}, period: {}", 
                     tutorId, studentId, subject, period);
         try {
+            if (notModified(webRequest, tutorId, LocalDate.now())) {
+                return null;
+            }
             List<Double> rates = taskService.getTaskCompletionRates(tutorId, studentId, subject, period);
             logger.debug("Task completion rates retrieved: {}", rates);
             return ResponseEntity.ok(rates);
@@ -43,10 +61,14 @@ public class StatisticsController {
     public ResponseEntity<Map<String, List<Double>>> getSubjectPerformance(
             @RequestParam Long tutorId,
             @RequestParam(required = false) Long studentId,
-            @RequestParam(defaultValue = "weekly") String period) {
+            @RequestParam(defaultValue = "weekly") String period,
+            WebRequest webRequest) {
         logger.info("Fetching subject performance for tutorId: {}, studentId: {}, period: {}", 
                     tutorId, studentId, period);
         try {
+            if (notModified(webRequest, tutorId, LocalDate.now())) {
+                return null;
+            }
             Map<String, List<Double>> performance = taskService.getSubjectPerformance(tutorId, studentId, period);
             logger.debug("Subject performance retrieved: {}", performance);
             return ResponseEntity.ok(performance);
@@ -61,10 +83,14 @@ public class StatisticsController {
     public ResponseEntity<Map<String, Double>> getGradeDistribution(
             @RequestParam Long tutorId,
             @RequestParam(required = false) Long studentId,
-            @RequestParam(defaultValue = "all-subjects") String subject) {
+            @RequestParam(defaultValue = "all-subjects") String subject,
+            WebRequest webRequest) {
         logger.info("Fetching grade distribution for tutorId: {}, studentId: {}, subject: {}", 
                     tutorId, studentId, subject);
         try {
+            if (notModified(webRequest, tutorId, null)) {
+                return null;
+            }
             Map<String, Double> distribution = taskService.getGradeDistribution(tutorId, studentId, subject);
             logger.debug("Grade distribution retrieved: {}", distribution);
             return ResponseEntity.ok(distribution);
@@ -79,10 +105,14 @@ public class StatisticsController {
     public ResponseEntity<Map<String, Double>> getSubmissionTimeline(
             @RequestParam Long tutorId,
             @RequestParam(required = false) Long studentId,
-            @RequestParam(defaultValue = "all-subjects") String subject) {
+            @RequestParam(defaultValue = "all-subjects") String subject,
+            WebRequest webRequest) {
         logger.info("Fetching submission timeline for tutorId: {}, studentId: {}, subject: {}", 
                     tutorId, studentId, subject);
         try {
+            if (notModified(webRequest, tutorId, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES))) {
+                return null;
+            }
             Map<String, Double> timeline = taskService.getSubmissionTimeline(tutorId, studentId, subject);
             logger.debug("Submission timeline retrieved: {}", timeline);
             return ResponseEntity.ok(timeline);
@@ -92,4 +122,53 @@ public class StatisticsController {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    // All four charts in one request; the statistics page uses this instead of the endpoints above
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @RequestParam Long tutorId,
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(defaultValue = "all-subjects") String subject,
+            @RequestParam(defaultValue = "weekly") String period,
+            WebRequest webRequest) {
+        logger.info("Fetching dashboard for tutorId: {}, studentId: {}, subject: {}, period: {}",
+                    tutorId, studentId, subject, period);
+        try {
+            if (notModified(webRequest, tutorId, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES))) {
+                return null;
+            }
+            DashboardResponse dashboard = taskService.getDashboard(tutorId, studentId, subject, period);
+            logger.debug("Dashboard retrieved: {}", dashboard);
+            return ResponseEntity.ok(dashboard);
+        } catch (Exception e) {
+            logger.error("Error fetching dashboard: tutorId={}, studentId={}, subject={}, period={}",
+                         tutorId, studentId, subject, period, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/rollups/verify")
+    public ResponseEntity<Map<String, Object>> verifyRollups(
+            @RequestParam Long tutorId,
+            @RequestParam(defaultValue = "false") boolean repair) {
+        logger.info("Verifying score rollups for tutorId: {}, repair: {}", tutorId, repair);
+        try {
+            int drifted = analyticsRollupService.verifyTutor(tutorId, repair);
+            Map<String, Object> result = new HashMap<>();
+            result.put("tutorId", tutorId);
+            result.put("driftedBuckets", drifted);
+            result.put("repaired", repair && drifted > 0);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            logger.error("Error verifying score rollups for tutorId: {}", tutorId, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // The tutor's data version is read before computing; the rate series also move with the date and the timeline
+    // with the clock, since unsubmitted work is judged as if submitted now
+    private boolean notModified(WebRequest webRequest, Long tutorId, Object asOf) {
+        return webRequest.checkNotModified("W/\"" + tutorId + "-" + dataVersionService.getVersion(tutorId)
+            + (asOf != null ? "-" + asOf : "") + "\"");
+    }
+}
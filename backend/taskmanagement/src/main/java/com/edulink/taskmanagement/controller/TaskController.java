@@ -1,17 +1,30 @@
 package com.edulink.taskmanagement.controller;
 
 import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.payload.request.BulkTaskRequest;
 import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.payload.response.CursorPage;
+import com.edulink.taskmanagement.payload.response.TaskDetailResponse;
+import com.edulink.taskmanagement.payload.response.TaskListResponse;
+import com.edulink.taskmanagement.service.DataVersionService;
+import com.edulink.taskmanagement.service.IdempotencyKeyReusedException;
+import com.edulink.taskmanagement.service.IdempotencyService;
 import com.edulink.taskmanagement.service.TaskService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 @RestController
@@ -24,14 +37,33 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${edulink.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${edulink.pagination.max-size:500}")
+    private int maxPageSize;
+
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
+    public ResponseEntity<?> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         logger.info("Fetching all tasks");
         try {
-            List<Task> tasks = taskService.getAllTasks();
+            if (isPaged(cursor, size)) {
+                CursorPage<TaskListResponse> page = taskService.getTasksPage(cursor, pageSize(size));
+                logger.debug("Tasks page retrieved: {}", page.getItems().size());
+                return ResponseEntity.ok(page);
+            }
+            List<TaskListResponse> tasks = taskService.getAllTasks();
             logger.debug("Tasks retrieved: {}", tasks.size());
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
@@ -41,10 +73,10 @@ public class TaskController {
     }
 
     @GetMapping("/{taskId}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<TaskDetailResponse> getTaskById(@PathVariable Long taskId) {
         logger.info("Fetching task with taskId: {}", taskId);
         try {
-            Task task = taskService.getTaskById(taskId);
+            TaskDetailResponse task = taskService.getTaskDetail(taskId);
             logger.debug("Task retrieved: {}", task.getId());
             return ResponseEntity.ok(task);
         } catch (RuntimeException e) {
@@ -54,25 +86,52 @@ public class TaskController {
     }
 
     @PostMapping(consumes = {"multipart/form-data"})
-    public ResponseEntity<Task> createTask(
+    public ResponseEntity<TaskDetailResponse> createTask(
             @RequestPart("task") String taskJson,
             @RequestPart(value = "file", required = false) MultipartFile file,
-            @RequestParam Long tutorId) {
+            @RequestParam Long tutorId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         logger.info("Creating task for tutorId: {}", tutorId);
         try {
             TaskRequest taskRequest = objectMapper.readValue(taskJson, TaskRequest.class);
             taskRequest.setFile(file);
-            Task task = taskService.createTask(taskRequest, tutorId);
+            TaskDetailResponse task = idempotencyService.execute("tasks:" + tutorId, idempotencyKey,
+                    Arrays.asList(taskJson, file), new TypeReference<TaskDetailResponse>() {},
+                    () -> TaskDetailResponse.from(taskService.createTask(taskRequest, tutorId), 0));
             logger.info("Task created successfully: {}", task.getId());
             return ResponseEntity.ok(task);
+        } catch (IdempotencyKeyReusedException e) {
+            logger.warn("Rejected task creation for tutorId: {}: {}", tutorId, e.getMessage());
+            return ResponseEntity.unprocessableEntity().build();
         } catch (Exception e) {
             logger.error("Error creating task for tutorId: {}", tutorId, e);
             return ResponseEntity.badRequest().body(null);
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TaskListResponse>> createTasks(
+            @RequestBody BulkTaskRequest bulkRequest,
+            @RequestParam Long tutorId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        logger.info("Creating {} tasks for tutorId: {}", bulkRequest.getTasks() != null ? bulkRequest.getTasks().size() : 0, tutorId);
+        try {
+            List<TaskListResponse> tasks = idempotencyService.execute("tasks-bulk:" + tutorId, idempotencyKey,
+                    bulkRequest, new TypeReference<List<TaskListResponse>>() {},
+                    () -> taskService.createTasks(bulkRequest, tutorId).stream().map(TaskListResponse::from).toList());
+            logger.info("Bulk created {} tasks", tasks.size());
+            return ResponseEntity.ok(tasks);
+        } catch (IdempotencyKeyReusedException e) {
+            logger.warn("Rejected bulk task creation for tutorId: {}: {}", tutorId, e.getMessage());
+            return ResponseEntity.unprocessableEntity().build();
+        } catch (Exception e) {
+            logger.error("Error bulk creating tasks for tutorId: {}", tutorId, e);
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
     @PutMapping(value = "/{taskId}", consumes = {"multipart/form-data"})
-    public ResponseEntity<Task> updateTask(
+    public ResponseEntity<TaskDetailResponse> updateTask(
             @PathVariable Long taskId,
             @RequestPart("task") String taskJson,
             @RequestPart(value = "file", required = false) MultipartFile file,
@@ -81,9 +140,12 @@ public class TaskController {
         try {
             TaskRequest taskRequest = objectMapper.readValue(taskJson, TaskRequest.class);
             taskRequest.setFile(file);
-            Task updatedTask = taskService.updateTask(taskId, taskRequest, tutorId);
+            taskService.updateTask(taskId, taskRequest, tutorId);
             logger.info("Task {} updated successfully", taskId);
-            return ResponseEntity.ok(updatedTask);
+            return ResponseEntity.ok(taskService.getTaskDetail(taskId));
+        } catch (OptimisticLockingFailureException e) {
+            logger.warn("Update of taskId: {} kept conflicting with concurrent updates", taskId);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             logger.error("Error updating task with taskId: {}, tutorId: {}", taskId, tutorId, e);
             return ResponseEntity.badRequest().body(null);
@@ -104,10 +166,22 @@ public class TaskController {
     }
 
     @GetMapping("/tutor/{tutorId}")
-    public ResponseEntity<List<Task>> getTasksByTutor(@PathVariable Long tutorId) {
+    public ResponseEntity<?> getTasksByTutor(
+            @PathVariable Long tutorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
         logger.info("Fetching tasks for tutorId: {}", tutorId);
         try {
-            List<Task> tasks = taskService.getTasksByTutor(tutorId);
+            if (notModified(webRequest, tutorId)) {
+                return null;
+            }
+            if (isPaged(cursor, size)) {
+                CursorPage<TaskListResponse> page = taskService.getTasksByTutorPage(tutorId, cursor, pageSize(size));
+                logger.debug("Tasks page retrieved for tutor: {}", page.getItems().size());
+                return ResponseEntity.ok(page);
+            }
+            List<TaskListResponse> tasks = taskService.getTasksByTutor(tutorId);
             logger.debug("Tasks retrieved for tutor: {}", tasks.size());
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
@@ -117,10 +191,22 @@ public class TaskController {
     }
 
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Task>> getTasksByStudent(@PathVariable Long studentId) {
+    public ResponseEntity<?> getTasksByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
         logger.info("Fetching tasks for studentId: {}", studentId);
         try {
-            List<Task> tasks = taskService.getTasksByStudent(studentId);
+            if (notModified(webRequest, studentId)) {
+                return null;
+            }
+            if (isPaged(cursor, size)) {
+                CursorPage<TaskListResponse> page = taskService.getTasksByStudentPage(studentId, cursor, pageSize(size));
+                logger.debug("Tasks page retrieved for student: {}", page.getItems().size());
+                return ResponseEntity.ok(page);
+            }
+            List<TaskListResponse> tasks = taskService.getTasksByStudent(studentId);
             logger.debug("Tasks retrieved for student: {}", tasks.size());
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
@@ -130,12 +216,12 @@ public class TaskController {
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Task>> getUpcomingTasks(
+    public ResponseEntity<List<TaskListResponse>> getUpcomingTasks(
             @RequestParam LocalDateTime start,
             @RequestParam LocalDateTime end) {
         logger.info("Fetching upcoming tasks from {} to {}", start, end);
         try {
-            List<Task> tasks = taskService.getUpcomingTasks(start, end);
+            List<TaskListResponse> tasks = taskService.getUpcomingTasks(start, end);
             logger.debug("Upcoming tasks retrieved: {}", tasks.size());
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
@@ -145,10 +231,10 @@ public class TaskController {
     }
 
     @GetMapping("/overdue")
-    public ResponseEntity<List<Task>> getOverdueTasks() {
+    public ResponseEntity<List<TaskListResponse>> getOverdueTasks() {
         logger.info("Fetching overdue tasks");
         try {
-            List<Task> tasks = taskService.getOverdueTasks();
+            List<TaskListResponse> tasks = taskService.getOverdueTasks();
             logger.debug("Overdue tasks retrieved: {}", tasks.size());
             return ResponseEntity.ok(tasks);
         } catch (Exception e) {
@@ -156,4 +242,18 @@ public class TaskController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    // The user's data version is read before the list, so a write landing mid-read is simply sent again next time
+    private boolean notModified(WebRequest webRequest, Long userId) {
+        return webRequest.checkNotModified("W/\"" + userId + "-" + dataVersionService.getVersion(userId) + "\"");
+    }
+
+    private boolean isPaged(String cursor, Integer size) {
+        return cursor != null || size != null;
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null) return defaultPageSize;
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
 }
\ No newline at end of file
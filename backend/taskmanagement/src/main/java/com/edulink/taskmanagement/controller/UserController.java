@@ -1,6 +1,7 @@
 package com.edulink.taskmanagement.controller;
 
 import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.response.UserDetailResponse;
 import com.edulink.taskmanagement.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,10 +22,10 @@ public class UserController {
     private UserService userService;
 
     @GetMapping
-    public ResponseEntity<List<User>> getUsersByRole(@RequestParam String role) {
+    public ResponseEntity<List<UserDetailResponse>> getUsersByRole(@RequestParam String role) {
         logger.info("Fetching users with role: {}", role);
         try {
-            List<User> users = userService.getUsersByRole(role);
+            List<UserDetailResponse> users = userService.getUsersByRole(role);
             logger.debug("Users retrieved for role {}: {}", role, users.size());
             return ResponseEntity.ok(users);
         } catch (Exception e) {
@@ -34,11 +35,11 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<User> getCurrentUser(@RequestParam Long userId) {
+    public ResponseEntity<UserDetailResponse> getCurrentUser(@RequestParam Long userId) {
         logger.info("Fetching current user with userId: {}", userId);
         try {
             User user = userService.getUserById(userId);
-            return ResponseEntity.ok(user);
+            return ResponseEntity.ok(UserDetailResponse.from(user));
         } catch (Exception e) {
             logger.error("Error fetching current user with userId: {}", userId, e);
             return ResponseEntity.badRequest().build();
@@ -46,13 +47,13 @@ public class UserController {
     }
 
     @PutMapping("/me")
-    public ResponseEntity<User> updateCurrentUser(
+    public ResponseEntity<UserDetailResponse> updateCurrentUser(
             @RequestParam Long userId,
             @RequestBody User updatedUser) {
         logger.info("Updating user with userId: {}", userId);
         try {
             User user = userService.updateUser(userId, updatedUser);
-            return ResponseEntity.ok(user);
+            return ResponseEntity.ok(UserDetailResponse.from(user));
         } catch (Exception e) {
             logger.error("Error updating user with userId: {}", userId, e);
             return ResponseEntity.badRequest().build();
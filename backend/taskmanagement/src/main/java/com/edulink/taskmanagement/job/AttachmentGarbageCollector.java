@@ -0,0 +1,49 @@
+package com.edulink.taskmanagement.job;
+
+import com.edulink.taskmanagement.service.AttachmentStorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Deletes blobs no task has referenced for the grace period, then files the database never tracked
+@Component
+@ConditionalOnProperty(name = "edulink.attachments.gc-enabled", havingValue = "true", matchIfMissing = true)
+public class AttachmentGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentGarbageCollector.class);
+
+    @Autowired
+    private AttachmentStorageService attachmentStorageService;
+
+    @Value("${edulink.attachments.gc-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${edulink.attachments.gc-interval:PT1H}",
+               fixedDelayString = "${edulink.attachments.gc-interval:PT1H}")
+    public void collect() {
+        int collected = 0;
+        List<String> batch;
+        try {
+            do {
+                batch = attachmentStorageService.findCollectable(batchSize);
+                for (String hash : batch) {
+                    if (attachmentStorageService.collect(hash)) {
+                        collected++;
+                    }
+                }
+            } while (batch.size() == batchSize);
+            int swept = attachmentStorageService.sweepUntracked();
+            if (collected > 0 || swept > 0) {
+                logger.info("Attachment GC removed {} orphaned blobs and {} untracked files", collected, swept);
+            }
+        } catch (Exception e) {
+            logger.error("Attachment GC stopped after {} blobs", collected, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.edulink.taskmanagement.job;
+
+import com.edulink.taskmanagement.service.CalendarFeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Drops calendar changes past the retention window; older sync tokens get 410 and a full refetch
+@Component
+public class CalendarChangePruner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarChangePruner.class);
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Scheduled(initialDelayString = "${edulink.calendar.prune-interval:PT6H}",
+               fixedDelayString = "${edulink.calendar.prune-interval:PT6H}")
+    public void prune() {
+        try {
+            int pruned = calendarFeedService.pruneChanges();
+            if (pruned > 0) {
+                logger.info("Pruned {} calendar changes", pruned);
+            }
+        } catch (Exception e) {
+            logger.error("Calendar change pruning failed", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.edulink.taskmanagement.job;
+
+import com.edulink.taskmanagement.service.IdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Drops idempotency keys past their TTL; a retry after that runs as a new request
+@Component
+public class IdempotencyKeyPruner {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyPruner.class);
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Scheduled(initialDelayString = "${edulink.idempotency.prune-interval:PT1H}",
+               fixedDelayString = "${edulink.idempotency.prune-interval:PT1H}")
+    public void prune() {
+        try {
+            int pruned = idempotencyService.purgeExpired();
+            if (pruned > 0) {
+                logger.info("Pruned {} expired idempotency keys", pruned);
+            }
+        } catch (Exception e) {
+            logger.error("Idempotency key pruning failed", e);
+        }
+    }
+}
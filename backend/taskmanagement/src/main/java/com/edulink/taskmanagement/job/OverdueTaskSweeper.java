@@ -0,0 +1,32 @@
+package com.edulink.taskmanagement.job;
+
+import com.edulink.taskmanagement.service.OverdueTaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Moves PENDING tasks past their deadline to OVERDUE; nodes without the lease only retry acquiring it
+@Component
+@ConditionalOnProperty(name = "edulink.overdue.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueTaskSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueTaskSweeper.class);
+
+    @Autowired
+    private OverdueTaskService overdueTaskService;
+
+    @Scheduled(fixedDelayString = "${edulink.overdue.tick-interval:PT5S}")
+    public void sweep() {
+        try {
+            int marked = overdueTaskService.sweep();
+            if (marked > 0) {
+                logger.info("Marked {} tasks overdue", marked);
+            }
+        } catch (Exception e) {
+            logger.error("Overdue sweep failed", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.edulink.taskmanagement.job;
+
+import com.edulink.taskmanagement.service.ProgressHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Keeps the full submission trail for recent days and only each day's last entry after that
+@Component
+public class ProgressHistoryCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressHistoryCompactor.class);
+
+    @Autowired
+    private ProgressHistoryService progressHistoryService;
+
+    @Scheduled(initialDelayString = "${edulink.progress.history-compaction-interval:PT6H}",
+               fixedDelayString = "${edulink.progress.history-compaction-interval:PT6H}")
+    public void compact() {
+        try {
+            int compacted = progressHistoryService.compact();
+            if (compacted > 0) {
+                logger.info("Compacted {} progress history entries", compacted);
+            }
+        } catch (Exception e) {
+            logger.error("Progress history compaction failed", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// One stored blob per distinct file content, shared by every task that uploaded it
+@Entity
+@Table(name = "attachments")
+@Data
+public class Attachment {
+    @Id
+    @Column(length = 64)
+    private String hash; // hex SHA-256 of the content
+
+    @Column(name = "size_bytes")
+    private long size;
+
+    private String contentType;
+    private int referenceCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime releasedAt; // when the last reference was dropped; null while referenced
+}
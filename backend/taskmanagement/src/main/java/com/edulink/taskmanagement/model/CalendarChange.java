@@ -0,0 +1,28 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// One row per task change per affected user, read back by the feed's "changes since" mode
+@Entity
+@Table(name = "calendar_changes", indexes = {
+    @Index(name = "idx_calendar_changes_user_version", columnList = "user_id, version")
+})
+@Data
+public class CalendarChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "calendar_change_ids")
+    @TableGenerator(name = "calendar_change_ids", table = "id_allocations",
+                    pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "calendar_changes", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    private long version; // the user's CalendarVersion after this change
+    private Long taskId;
+    private boolean removed; // task deleted or user unassigned
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,16 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Per-user counter behind calendar feed ETags and sync tokens
+@Entity
+@Table(name = "calendar_versions")
+@Data
+public class CalendarVersion {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private long version;
+}
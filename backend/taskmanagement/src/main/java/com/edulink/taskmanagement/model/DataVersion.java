@@ -0,0 +1,16 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Per-user counter behind the task list and statistics ETags; moves on every write the user's dashboards show.
+// Split over slots so concurrent writers for one tutor rarely wait on the same row; the version is their sum
+@Entity
+@Table(name = "data_versions")
+@Data
+public class DataVersion {
+    @EmbeddedId
+    private DataVersionId id;
+
+    private long version;
+}
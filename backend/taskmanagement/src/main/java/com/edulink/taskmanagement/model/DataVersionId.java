@@ -0,0 +1,20 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataVersionId implements Serializable {
+    @Column(name = "user_id")
+    private Long userId;
+
+    private int slot;
+}
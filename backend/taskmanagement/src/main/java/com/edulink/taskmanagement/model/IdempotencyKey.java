@@ -0,0 +1,26 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// A client-supplied Idempotency-Key, claimed in the same transaction as the write it guards
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at")
+})
+@Data
+public class IdempotencyKey {
+    @Id
+    private String id; // "<scope>:<client key>", the scope naming the endpoint and caller
+
+    @Column(length = 64)
+    private String fingerprint; // SHA-256 of the request, so a key reused for a different request is refused
+
+    @Lob
+    private String response; // JSON of the first response; null until that request commits
+
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,19 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Single-row lock for background jobs that must run on one node at a time
+@Entity
+@Table(name = "job_leases")
+@Data
+public class JobLease {
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    private String owner;
+    private LocalDateTime expiresAt;
+}
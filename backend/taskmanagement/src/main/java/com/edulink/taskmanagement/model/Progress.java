@@ -6,7 +6,10 @@ import lombok.Data;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
-@Table(name = "progress")
+// Current state only: one row per (task, student), rewritten on each submission; the trail is in progress_history
+@Table(name = "progress", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_progress_task_student", columnNames = {"task_id", "student_id"})
+})
 @Data
 public class Progress {
     @Id
@@ -28,4 +31,8 @@ public class Progress {
     private String submissionUrl;
     private LocalDateTime submittedAt;
     private Integer score;
+
+    // Grading reads without a lock, so a concurrent resubmission or grade shows up as a failed version check
+    @Version
+    private long version;
 }
\ No newline at end of file
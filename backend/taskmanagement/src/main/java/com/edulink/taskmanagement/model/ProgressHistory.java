@@ -0,0 +1,45 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Append-only trail of submissions; rows older than the retention are compacted to the last one per day
+@Entity
+@Table(name = "progress_history", indexes = {
+    @Index(name = "idx_progress_history_progress_day", columnList = "progress_id, submitted_on"),
+    @Index(name = "idx_progress_history_day", columnList = "submitted_on"),
+    @Index(name = "idx_progress_history_task", columnList = "task_id")
+})
+@Data
+public class ProgressHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain ids rather than associations: history is written in JDBC batches and never navigated
+    private Long progressId;
+    private Long taskId;
+    private Long studentId;
+
+    private int percentageComplete;
+    private String comment;
+    private String submissionUrl;
+    private LocalDateTime submittedAt;
+    private LocalDate submittedOn;
+
+    public static ProgressHistory from(Progress progress) {
+        ProgressHistory entry = new ProgressHistory();
+        entry.setProgressId(progress.getId());
+        entry.setTaskId(progress.getTask().getId());
+        entry.setStudentId(progress.getStudent().getId());
+        entry.setPercentageComplete(progress.getPercentageComplete());
+        entry.setComment(progress.getComment());
+        entry.setSubmissionUrl(progress.getSubmissionUrl());
+        entry.setSubmittedAt(progress.getSubmittedAt());
+        entry.setSubmittedOn(progress.getSubmittedAt().toLocalDate());
+        return entry;
+    }
+}
@@ -0,0 +1,17 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Table(name = "score_rollups", indexes = {
+    @Index(name = "idx_score_rollups_tutor_day", columnList = "tutor_id, bucket_date")
+})
+@Data
+public class ScoreRollup {
+    @EmbeddedId
+    private ScoreRollupId id;
+
+    private long scoreSum; // ungraded submissions count as 0, as in the live analytics
+    private long scoreCount;
+}
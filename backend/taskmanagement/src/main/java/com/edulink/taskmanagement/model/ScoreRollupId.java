@@ -0,0 +1,27 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreRollupId implements Serializable {
+    @Column(name = "tutor_id")
+    private Long tutorId;
+
+    private String subject; // "" when the task has no subject
+
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(name = "bucket_date")
+    private LocalDate bucketDate; // day of the task deadline
+}
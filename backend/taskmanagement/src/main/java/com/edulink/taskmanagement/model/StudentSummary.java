@@ -0,0 +1,30 @@
+package com.edulink.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "student_summaries")
+@Data
+public class StudentSummary {
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    private String grade; // e.g., "A", "B", "N/A"
+    private String status; // e.g., "COMPLETED", "IN_PROGRESS", "PENDING"
+    private double completionAverage;
+    private Double averageScore;
+    private LocalDateTime lastActivity;
+
+    // Running counters, so submissions and grades can be applied without rescanning
+    private long progressSum;
+    private long progressCount;
+    private long scoreSum;
+    private long scoreCount;
+    private int assignedTasks;
+    private int completedTasks;
+    private int inProgressTasks;
+}
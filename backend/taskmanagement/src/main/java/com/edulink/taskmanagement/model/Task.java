@@ -2,6 +2,8 @@ package com.edulink.taskmanagement.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -9,21 +11,48 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_creator_deadline", columnList = "created_by_id, deadline"),
+    @Index(name = "idx_tasks_status_deadline", columnList = "status, deadline")
+})
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
+@NamedEntityGraph(name = Task.DETAIL_VIEW, attributeNodes = {
+    @NamedAttributeNode("createdBy"),
+    @NamedAttributeNode("assignees")
+})
+@NamedEntityGraph(name = Task.ANALYTICS_VIEW, attributeNodes = {
+    @NamedAttributeNode("createdBy"),
+    @NamedAttributeNode(value = "progresses", subgraph = "progress-student")
+}, subgraphs = @NamedSubgraph(name = "progress-student", attributeNodes = @NamedAttributeNode("student")))
 public class Task {
+    // Fetch profiles; progresses in the detail view and assignees in the analytics view are batch-loaded.
+    // List and calendar reads use the read models in payload.response instead.
+    public static final String DETAIL_VIEW = "Task.detail";
+    public static final String ANALYTICS_VIEW = "Task.analytics";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_ids")
+    @TableGenerator(name = "task_ids", table = "id_allocations",
+                    pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "tasks", allocationSize = 50)
     private Long id;
 
     private String title;
     private String description;
     private LocalDateTime deadline;
-    private String status; // e.g., "PENDING", "IN_PROGRESS", "COMPLETED"
+    private String status; // e.g., "PENDING", "IN_PROGRESS", "COMPLETED", "OVERDUE"
     private String subject;
     private Integer maxScore;
     private String attachmentUrl;
 
+    @Column(length = 64)
+    private String attachmentHash; // content hash in the attachment store; null for legacy uploads
+
+    // Bulk status updates in TaskRepository bump it too
+    @Version
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "created_by_id")
     @JsonManagedReference 
@@ -33,9 +62,11 @@ public class Task {
     @JoinTable(
         name = "task_assignees",
         joinColumns = @JoinColumn(name = "task_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        indexes = @Index(name = "idx_task_assignees_user_task", columnList = "user_id, task_id")
     )
     @JsonManagedReference 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task-assignees")
     private List<User> assignees = new ArrayList<>();
 
     @OneToMany(mappedBy = "task")
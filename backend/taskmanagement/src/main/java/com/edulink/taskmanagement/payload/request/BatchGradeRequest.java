@@ -0,0 +1,12 @@
+package com.edulink.taskmanagement.payload.request;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class BatchGradeRequest {
+    // progressId -> score/feedback; every submission must belong to the task in the URL
+    private Map<Long, ProgressRequest> grades = new LinkedHashMap<>();
+}
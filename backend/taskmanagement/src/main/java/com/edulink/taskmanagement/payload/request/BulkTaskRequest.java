@@ -0,0 +1,13 @@
+package com.edulink.taskmanagement.payload.request;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkTaskRequest {
+    // Cohort: students assigned to every task, in addition to each task's own assigneeIds
+    private List<Long> assigneeIds = new ArrayList<>();
+    private List<TaskRequest> tasks = new ArrayList<>();
+}
@@ -0,0 +1,15 @@
+package com.edulink.taskmanagement.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BatchGradeResponse {
+    private Long taskId;
+    private int graded;
+    private int failed;
+    private List<GradeResult> results; // in request order
+}
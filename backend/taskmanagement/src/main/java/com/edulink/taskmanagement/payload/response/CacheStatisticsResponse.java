@@ -0,0 +1,14 @@
+package com.edulink.taskmanagement.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheStatisticsResponse {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio; // hits / (hits + misses); 0 before the first lookup
+}
@@ -0,0 +1,18 @@
+package com.edulink.taskmanagement.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarEventResponse {
+    private Long id;
+    private String title;
+    private String subject;
+    private LocalDateTime deadline;
+    private String status;
+}
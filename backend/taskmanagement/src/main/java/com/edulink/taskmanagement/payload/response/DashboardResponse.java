@@ -0,0 +1,17 @@
+package com.edulink.taskmanagement.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+// The four charts of the statistics page, same shapes as their single endpoints
+@Data
+@AllArgsConstructor
+public class DashboardResponse {
+    private List<Double> taskCompletionRates;
+    private Map<String, List<Double>> subjectPerformance;
+    private Map<String, Double> gradeDistribution;
+    private Map<String, Double> submissionTimeline;
+}
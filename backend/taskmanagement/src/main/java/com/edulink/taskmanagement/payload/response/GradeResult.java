@@ -0,0 +1,21 @@
+package com.edulink.taskmanagement.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GradeResult {
+    private Long progressId;
+    private boolean success;
+    private Integer score;
+    private String error; // null when the grade was applied
+
+    public static GradeResult graded(Long progressId, Integer score) {
+        return new GradeResult(progressId, true, score, null);
+    }
+
+    public static GradeResult failed(Long progressId, String error) {
+        return new GradeResult(progressId, false, null, error);
+    }
+}
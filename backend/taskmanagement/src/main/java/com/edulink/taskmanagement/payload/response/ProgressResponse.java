@@ -0,0 +1,32 @@
+package com.edulink.taskmanagement.payload.response;
+
+import com.edulink.taskmanagement.model.Progress;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressResponse {
+    private Long id;
+    private Long taskId;
+    private String taskTitle;
+    private LocalDateTime taskDeadline;
+    private Long studentId;
+    private String studentName;
+    private int percentageComplete;
+    private String comment;
+    private String submissionUrl;
+    private LocalDateTime submittedAt;
+    private Integer score;
+
+    public static ProgressResponse from(Progress progress) {
+        return new ProgressResponse(progress.getId(), progress.getTask().getId(), progress.getTask().getTitle(),
+                progress.getTask().getDeadline(), progress.getStudent().getId(), progress.getStudent().getName(),
+                progress.getPercentageComplete(), progress.getComment(), progress.getSubmissionUrl(),
+                progress.getSubmittedAt(), progress.getScore());
+    }
+}
@@ -0,0 +1,30 @@
+package com.edulink.taskmanagement.payload.response;
+
+import com.edulink.taskmanagement.model.Task;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class TaskDetailResponse extends TaskListResponse {
+    private long submissionCount;
+
+    // Used by constructor expressions in TaskRepository; assignees are filled in afterwards
+    public TaskDetailResponse(Long id, String title, String description, LocalDateTime deadline, String status,
+                              String subject, Integer maxScore, String attachmentUrl,
+                              Long createdById, String createdByName, String createdByEmail, Long submissionCount) {
+        super(id, title, description, deadline, status, subject, maxScore, attachmentUrl, createdById, createdByName, createdByEmail);
+        this.submissionCount = submissionCount != null ? submissionCount : 0;
+    }
+
+    public static TaskDetailResponse from(Task task, long submissionCount) {
+        TaskDetailResponse response = new TaskDetailResponse();
+        response.copyFrom(task);
+        response.setSubmissionCount(submissionCount);
+        return response;
+    }
+}
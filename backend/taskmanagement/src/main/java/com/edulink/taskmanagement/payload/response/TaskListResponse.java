@@ -0,0 +1,58 @@
+package com.edulink.taskmanagement.payload.response;
+
+import com.edulink.taskmanagement.model.Task;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class TaskListResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime deadline;
+    private String status;
+    private String subject;
+    private Integer maxScore;
+    private String attachmentUrl;
+    private UserSummaryResponse createdBy;
+    private List<UserSummaryResponse> assignees = new ArrayList<>();
+
+    // Used by constructor expressions in TaskRepository; assignees are filled in afterwards
+    public TaskListResponse(Long id, String title, String description, LocalDateTime deadline, String status,
+                            String subject, Integer maxScore, String attachmentUrl,
+                            Long createdById, String createdByName, String createdByEmail) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.deadline = deadline;
+        this.status = status;
+        this.subject = subject;
+        this.maxScore = maxScore;
+        this.attachmentUrl = attachmentUrl;
+        this.createdBy = createdById != null ? new UserSummaryResponse(createdById, createdByName, createdByEmail) : null;
+    }
+
+    public static TaskListResponse from(Task task) {
+        TaskListResponse response = new TaskListResponse();
+        response.copyFrom(task);
+        return response;
+    }
+
+    protected void copyFrom(Task task) {
+        this.id = task.getId();
+        this.title = task.getTitle();
+        this.description = task.getDescription();
+        this.deadline = task.getDeadline();
+        this.status = task.getStatus();
+        this.subject = task.getSubject();
+        this.maxScore = task.getMaxScore();
+        this.attachmentUrl = task.getAttachmentUrl();
+        this.createdBy = task.getCreatedBy() != null ? UserSummaryResponse.from(task.getCreatedBy()) : null;
+        this.assignees = task.getAssignees().stream().map(UserSummaryResponse::from).toList();
+    }
+}
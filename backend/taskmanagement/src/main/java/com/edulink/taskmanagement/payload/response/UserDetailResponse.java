@@ -0,0 +1,28 @@
+package com.edulink.taskmanagement.payload.response;
+
+import com.edulink.taskmanagement.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Everything about a user except the password
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDetailResponse {
+    private Long id;
+    private String email;
+    private String name;
+    private String role;
+    private String grade;
+    private String status;
+    private LocalDateTime lastActive;
+    private String preferences;
+
+    public static UserDetailResponse from(User user) {
+        return new UserDetailResponse(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+                user.getGrade(), user.getStatus(), user.getLastActive(), user.getPreferences());
+    }
+}
@@ -0,0 +1,19 @@
+package com.edulink.taskmanagement.payload.response;
+
+import com.edulink.taskmanagement.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+    private Long id;
+    private String name;
+    private String email;
+
+    public static UserSummaryResponse from(User user) {
+        return new UserSummaryResponse(user.getId(), user.getName(), user.getEmail());
+    }
+}
@@ -0,0 +1,46 @@
+package com.edulink.taskmanagement.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.edulink.taskmanagement.model.Attachment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, String> {
+
+    // Takes a reference, creating the row on first upload; also revives a blob that was waiting for collection
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "attachments"))
+    @Query(value = "INSERT INTO attachments (hash, size_bytes, content_type, reference_count, created_at) " +
+                   "VALUES (:hash, :size, :contentType, 1, :now) " +
+                   "ON DUPLICATE KEY UPDATE reference_count = reference_count + 1, released_at = NULL",
+           nativeQuery = true)
+    int acquire(@Param("hash") String hash, @Param("size") long size, @Param("contentType") String contentType,
+                @Param("now") LocalDateTime now);
+
+    // releasedAt is assigned first so it sees the count before the decrement (MySQL applies SET left to right)
+    @Modifying
+    @Query("UPDATE Attachment a SET a.releasedAt = CASE WHEN a.referenceCount = 1 THEN :now ELSE a.releasedAt END, " +
+           "a.referenceCount = a.referenceCount - 1 WHERE a.hash = :hash AND a.referenceCount > 0")
+    int release(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Attachment a WHERE a.hash = :hash")
+    Optional<Attachment> findForUpdate(@Param("hash") String hash);
+
+    @Query("SELECT a.hash FROM Attachment a WHERE a.referenceCount = 0 AND a.releasedAt < :cutoff ORDER BY a.releasedAt")
+    List<String> findOrphanHashes(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -0,0 +1,24 @@
+package com.edulink.taskmanagement.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.edulink.taskmanagement.model.CalendarChange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CalendarChangeRepository extends JpaRepository<CalendarChange, Long> {
+
+    @Query("SELECT c FROM CalendarChange c WHERE c.userId = :userId AND c.version > :since AND c.version <= :upTo " +
+           "ORDER BY c.version")
+    List<CalendarChange> findChanges(@Param("userId") Long userId, @Param("since") long since, @Param("upTo") long upTo);
+
+    @Modifying
+    @Query("DELETE FROM CalendarChange c WHERE c.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
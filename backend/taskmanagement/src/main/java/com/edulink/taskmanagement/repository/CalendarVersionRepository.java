@@ -0,0 +1,28 @@
+package com.edulink.taskmanagement.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.edulink.taskmanagement.model.CalendarVersion;
+import com.edulink.taskmanagement.repository.projection.UserVersion;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CalendarVersionRepository extends JpaRepository<CalendarVersion, Long> {
+
+    // Run as a JDBC batch by CalendarFeedServiceImpl; the row locks taken are held to commit, so one user's versions
+    // commit in order
+    String INCREMENT = "INSERT INTO calendar_versions (user_id, version) VALUES (:userId, 1) " +
+        "ON DUPLICATE KEY UPDATE version = version + 1";
+
+    @Query("SELECT v.version FROM CalendarVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") Long userId);
+
+    @Query("SELECT v.userId AS userId, v.version AS version FROM CalendarVersion v WHERE v.userId IN :userIds")
+    List<UserVersion> findVersions(@Param("userIds") Collection<Long> userIds);
+}
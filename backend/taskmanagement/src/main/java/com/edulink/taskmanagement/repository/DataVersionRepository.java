@@ -0,0 +1,19 @@
+package com.edulink.taskmanagement.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.edulink.taskmanagement.model.DataVersion;
+import com.edulink.taskmanagement.model.DataVersionId;
+
+@Repository
+public interface DataVersionRepository extends JpaRepository<DataVersion, DataVersionId> {
+    // Run as a JDBC batch by DataVersionServiceImpl
+    String INCREMENT = "INSERT INTO data_versions (user_id, slot, version) VALUES (:userId, :slot, 1) " +
+        "ON DUPLICATE KEY UPDATE version = version + 1";
+
+    @Query("SELECT COALESCE(SUM(v.version), 0) FROM DataVersion v WHERE v.id.userId = :userId")
+    long sumVersion(@Param("userId") Long userId);
+}
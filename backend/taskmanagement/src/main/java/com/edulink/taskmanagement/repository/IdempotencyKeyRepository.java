@@ -0,0 +1,37 @@
+package com.edulink.taskmanagement.repository;
+
+import com.edulink.taskmanagement.model.IdempotencyKey;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // A second request with the same key blocks here until the first one's transaction ends
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_keys"))
+    @Query(value = "INSERT INTO idempotency_keys (id, fingerprint, created_at, expires_at) " +
+                   "VALUES (:id, :fingerprint, :createdAt, :expiresAt) ON DUPLICATE KEY UPDATE id = id",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("fingerprint") String fingerprint,
+                       @Param("createdAt") LocalDateTime createdAt, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM IdempotencyKey k WHERE k.id = :id")
+    Optional<IdempotencyKey> findForUpdate(@Param("id") String id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
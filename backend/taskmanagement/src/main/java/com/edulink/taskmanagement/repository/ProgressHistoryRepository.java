@@ -0,0 +1,36 @@
+package com.edulink.taskmanagement.repository;
+
+import com.edulink.taskmanagement.model.ProgressHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProgressHistoryRepository extends JpaRepository<ProgressHistory, Long> {
+    // Run as a JDBC batch by ProgressHistoryServiceImpl
+    String APPEND = "INSERT INTO progress_history (progress_id, task_id, student_id, percentage_complete, comment, " +
+        "submission_url, submitted_at, submitted_on) VALUES (:progressId, :taskId, :studentId, :percentageComplete, " +
+        ":comment, :submissionUrl, :submittedAt, :submittedOn)";
+
+    // Entries older than the cutoff that a later entry of the same submission and day supersedes
+    @Query("SELECT h.id FROM ProgressHistory h WHERE h.submittedOn < :cutoff AND EXISTS (" +
+           "SELECT 1 FROM ProgressHistory n WHERE n.progressId = h.progressId AND n.submittedOn = h.submittedOn AND n.id > h.id)")
+    List<Long> findCompactableIds(@Param("cutoff") LocalDate cutoff, Pageable pageable);
+
+    @Query("SELECT DISTINCT h.progressId FROM ProgressHistory h WHERE h.taskId IN :taskIds")
+    List<Long> findProgressIdsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("SELECT h FROM ProgressHistory h WHERE h.progressId = :progressId ORDER BY h.submittedAt, h.id")
+    List<ProgressHistory> findByProgressId(@Param("progressId") Long progressId);
+
+    @Modifying
+    @Query("DELETE FROM ProgressHistory h WHERE h.taskId IN :taskIds")
+    int deleteByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+}
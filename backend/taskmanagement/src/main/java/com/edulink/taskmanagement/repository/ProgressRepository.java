@@ -1,20 +1,108 @@
 package com.edulink.taskmanagement.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.edulink.taskmanagement.model.Progress;
-import com.edulink.taskmanagement.model.Task;
-import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.response.ProgressResponse;
+import com.edulink.taskmanagement.repository.projection.DashboardCounts;
+import com.edulink.taskmanagement.repository.projection.GradeDistributionCounts;
+import com.edulink.taskmanagement.repository.projection.SubmissionTimelineCounts;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProgressRepository extends JpaRepository<Progress, Long> {
-    List<Progress> findByStudent(User student);
-    List<Progress> findByTask(Task task);
+    String RESPONSE = "SELECT new com.edulink.taskmanagement.payload.response.ProgressResponse(" +
+        "p.id, t.id, t.title, t.deadline, s.id, s.name, p.percentageComplete, p.comment, p.submissionUrl, p.submittedAt, p.score) " +
+        "FROM Progress p JOIN p.task t JOIN p.student s ";
+
+    // Ungraded submissions fall into D & F, as the report always did
+    String GRADE_COUNTS =
+        "COALESCE(SUM(CASE WHEN p.score >= 90 THEN 1 ELSE 0 END), 0) AS gradeA, " +
+        "COALESCE(SUM(CASE WHEN p.score >= 80 AND p.score < 90 THEN 1 ELSE 0 END), 0) AS gradeB, " +
+        "COALESCE(SUM(CASE WHEN p.score >= 70 AND p.score < 80 THEN 1 ELSE 0 END), 0) AS gradeC, " +
+        "COALESCE(SUM(CASE WHEN p.score IS NULL OR p.score < 70 THEN 1 ELSE 0 END), 0) AS gradeDOrF";
+
+    // Unsubmitted rows are judged as if submitted now; a task without a deadline matches no bucket. The buckets cover
+    // every time, so incomplete is always 0, as the per-row classification this replaced never reached it
+    String TIMELINE_COUNTS =
+        "COALESCE(SUM(CASE WHEN COALESCE(p.submittedAt, :now) < t.deadline - 1 day THEN 1 ELSE 0 END), 0) AS early, " +
+        "COALESCE(SUM(CASE WHEN COALESCE(p.submittedAt, :now) >= t.deadline - 1 day " +
+        "AND COALESCE(p.submittedAt, :now) < t.deadline THEN 1 ELSE 0 END), 0) AS onTime, " +
+        "COALESCE(SUM(CASE WHEN COALESCE(p.submittedAt, :now) >= t.deadline " +
+        "AND COALESCE(p.submittedAt, :now) < t.deadline + 1 day THEN 1 ELSE 0 END), 0) AS late, " +
+        "COALESCE(SUM(CASE WHEN COALESCE(p.submittedAt, :now) >= t.deadline + 1 day THEN 1 ELSE 0 END), 0) AS afterDeadline, " +
+        "0L AS incomplete";
+
+    // Creates the current-state row on the first submission. Run before findForUpdate, so a concurrent first
+    // submission waits on the unique key rather than both taking gap locks and deadlocking on insert
+    String INSERT_IF_ABSENT = "INSERT INTO progress (task_id, student_id, percentage_complete, version) VALUES (:taskId, :studentId, 0, 0) " +
+        "ON DUPLICATE KEY UPDATE task_id = task_id";
+
+    // Native writes name their table; without it Hibernate empties every second-level cache region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "progress"))
+    @Query(value = INSERT_IF_ABSENT, nativeQuery = true)
+    int insertIfAbsent(@Param("taskId") Long taskId, @Param("studentId") Long studentId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Progress p WHERE p.task.id = :taskId AND p.student.id = :studentId")
+    Optional<Progress> findForUpdate(@Param("taskId") Long taskId, @Param("studentId") Long studentId);
+
+    // May also lock pairs the caller did not ask for; callers pick their rows out by (task, student)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Progress p WHERE p.task.id IN :taskIds AND p.student.id IN :studentIds ORDER BY p.id")
+    List<Progress> findAllForUpdate(@Param("taskIds") Collection<Long> taskIds, @Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT DISTINCT p.task.id FROM Progress p WHERE p.task.id > :afterId ORDER BY p.task.id")
+    List<Long> findTaskIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p FROM Progress p JOIN FETCH p.task t JOIN FETCH t.createdBy JOIN FETCH p.student " +
+           "WHERE t.id IN :taskIds ORDER BY p.id")
+    List<Progress> findAllByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // Locks the submissions being graded; ids from another task are simply not returned
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Progress p JOIN FETCH p.student WHERE p.task.id = :taskId AND p.id IN :ids ORDER BY p.id")
+    List<Progress> findForGrading(@Param("taskId") Long taskId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Progress p WHERE p.task.id IN :taskIds")
+    int deleteByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query(RESPONSE + "WHERE s.id = :studentId")
+    List<ProgressResponse> findResponsesByStudentId(@Param("studentId") Long studentId);
+
+    @Query(RESPONSE + "WHERE t.id = :taskId")
+    List<ProgressResponse> findResponsesByTaskId(@Param("taskId") Long taskId);
+
+    // Keyset pages on (task deadline, id) after the given key; a missing deadline pages as KeysetCursor.NO_DEADLINE
+    String PAGE_KEY = "COALESCE(t.deadline, {ts '1000-01-01 00:00:00'})";
+    String PAGE_AFTER = "(" + PAGE_KEY + " > :deadline OR (" + PAGE_KEY + " = :deadline AND p.id > :id)) " +
+                        "ORDER BY " + PAGE_KEY + ", p.id";
+
+    @Query(RESPONSE + "WHERE t.id = :taskId AND " + PAGE_AFTER)
+    List<ProgressResponse> findResponsePageByTaskIdAfter(@Param("taskId") Long taskId, @Param("deadline") LocalDateTime deadline,
+                                                         @Param("id") Long id, Limit limit);
+
+    @Query(RESPONSE + "WHERE s.id = :studentId AND " + PAGE_AFTER)
+    List<ProgressResponse> findResponsePageByStudentIdAfter(@Param("studentId") Long studentId, @Param("deadline") LocalDateTime deadline,
+                                                            @Param("id") Long id, Limit limit);
 
     @Query("SELECT AVG(p.percentageComplete) FROM Progress p WHERE p.task.id = :taskId")
     Double getAverageProgressForTask(@Param("taskId") Long taskId);
@@ -24,4 +112,49 @@ public interface ProgressRepository extends JpaRepository<Progress, Long> {
 
     @Query("SELECT COUNT(p) FROM Progress p WHERE p.task.id = :taskId AND p.percentageComplete = 100")
     Integer countCompletedForTask(@Param("taskId") Long taskId);
+
+    // [studentId, progressSum, progressCount, scoreSum, scoreCount, lastSubmittedAt]
+    @Query("SELECT p.student.id, COALESCE(SUM(p.percentageComplete), 0), COUNT(p), " +
+           "COALESCE(SUM(p.score), 0), COUNT(p.score), MAX(p.submittedAt) " +
+           "FROM Progress p WHERE p.student.id IN :studentIds GROUP BY p.student.id")
+    List<Object[]> summarizeByStudent(@Param("studentIds") Collection<Long> studentIds);
+
+    // [studentId, scoreSum, scoreCount] for one task, ungraded rows counting as 0
+    @Query("SELECT p.student.id, COALESCE(SUM(COALESCE(p.score, 0)), 0), COUNT(p) " +
+           "FROM Progress p WHERE p.task.id = :taskId GROUP BY p.student.id")
+    List<Object[]> sumScoresByStudentForTask(@Param("taskId") Long taskId);
+
+    // [subject, deadline, studentId, scoreSum, scoreCount] for every task of a tutor
+    @Query("SELECT t.subject, t.deadline, p.student.id, COALESCE(SUM(COALESCE(p.score, 0)), 0), COUNT(p) " +
+           "FROM Progress p JOIN p.task t WHERE t.createdBy.id = :tutorId AND t.deadline IS NOT NULL " +
+           "GROUP BY t.id, t.subject, t.deadline, p.student.id")
+    List<Object[]> sumScoresByTaskAndStudentForTutor(@Param("tutorId") Long tutorId);
+
+    @Query("SELECT " + GRADE_COUNTS + " FROM Progress p JOIN p.task t WHERE t.createdBy.id = :tutorId " +
+           "AND (:studentId IS NULL OR p.student.id = :studentId) " +
+           "AND (:subject IS NULL OR LOWER(t.subject) = LOWER(:subject))")
+    GradeDistributionCounts countGradeDistribution(@Param("tutorId") Long tutorId, @Param("studentId") Long studentId,
+                                                   @Param("subject") String subject);
+
+    @Query("SELECT " + TIMELINE_COUNTS + " FROM Progress p JOIN p.task t WHERE t.createdBy.id = :tutorId AND t.deadline IS NOT NULL " +
+           "AND (:studentId IS NULL OR p.student.id = :studentId) " +
+           "AND (:subject IS NULL OR LOWER(t.subject) = LOWER(:subject))")
+    SubmissionTimelineCounts countSubmissionTimeline(@Param("tutorId") Long tutorId, @Param("studentId") Long studentId,
+                                                     @Param("subject") String subject, @Param("now") LocalDateTime now);
+
+    // Both sets of counts in one pass over the tutor's progress, for the dashboard
+    @Query("SELECT " + GRADE_COUNTS + ", " + TIMELINE_COUNTS + " FROM Progress p JOIN p.task t WHERE t.createdBy.id = :tutorId " +
+           "AND (:studentId IS NULL OR p.student.id = :studentId) " +
+           "AND (:subject IS NULL OR LOWER(t.subject) = LOWER(:subject))")
+    DashboardCounts countDashboard(@Param("tutorId") Long tutorId, @Param("studentId") Long studentId,
+                                   @Param("subject") String subject, @Param("now") LocalDateTime now);
+
+    // Forward-only read for exports; the caller must consume it inside a transaction and close it
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Progress p JOIN FETCH p.task t JOIN FETCH p.student WHERE t.createdBy.id = :tutorId " +
+           "AND (:from IS NULL OR t.deadline >= :from) AND (:to IS NULL OR t.deadline < :to) ORDER BY t.id, p.id")
+    Stream<Progress> streamByTutorId(@Param("tutorId") Long tutorId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.edulink.taskmanagement.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.edulink.taskmanagement.model.ScoreRollup;
+import com.edulink.taskmanagement.model.ScoreRollupId;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ScoreRollupRepository extends JpaRepository<ScoreRollup, ScoreRollupId> {
+    // Shared with the JDBC batches in AnalyticsRollupServiceImpl
+    String INCREMENT = "INSERT INTO score_rollups (tutor_id, subject, student_id, bucket_date, score_sum, score_count) " +
+        "VALUES (:tutorId, :subject, :studentId, :bucketDate, :scoreDelta, :countDelta) " +
+        "ON DUPLICATE KEY UPDATE score_sum = score_sum + VALUES(score_sum), score_count = score_count + VALUES(score_count)";
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "score_rollups"))
+    @Query(value = INCREMENT, nativeQuery = true)
+    int increment(@Param("tutorId") Long tutorId, @Param("subject") String subject, @Param("studentId") Long studentId,
+                  @Param("bucketDate") LocalDate bucketDate, @Param("scoreDelta") long scoreDelta, @Param("countDelta") long countDelta);
+
+    // [bucketDate, scoreSum, scoreCount]
+    @Query("SELECT r.id.bucketDate, SUM(r.scoreSum), SUM(r.scoreCount) FROM ScoreRollup r " +
+           "WHERE r.id.tutorId = :tutorId AND (:studentId IS NULL OR r.id.studentId = :studentId) " +
+           "AND (:subject IS NULL OR LOWER(r.id.subject) = LOWER(:subject)) " +
+           "AND r.id.bucketDate BETWEEN :from AND :to GROUP BY r.id.bucketDate")
+    List<Object[]> sumByDay(@Param("tutorId") Long tutorId, @Param("studentId") Long studentId, @Param("subject") String subject,
+                            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // [subject, bucketDate, scoreSum, scoreCount]
+    @Query("SELECT r.id.subject, r.id.bucketDate, SUM(r.scoreSum), SUM(r.scoreCount) FROM ScoreRollup r " +
+           "WHERE r.id.tutorId = :tutorId AND (:studentId IS NULL OR r.id.studentId = :studentId) " +
+           "AND r.id.bucketDate BETWEEN :from AND :to GROUP BY r.id.subject, r.id.bucketDate")
+    List<Object[]> sumBySubjectAndDay(@Param("tutorId") Long tutorId, @Param("studentId") Long studentId,
+                                      @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT r FROM ScoreRollup r WHERE r.id.tutorId = :tutorId")
+    List<ScoreRollup> findByTutorId(@Param("tutorId") Long tutorId);
+
+    // Clears the persistence context: a repair saves new rows under ids it has just loaded
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ScoreRollup r WHERE r.id.tutorId = :tutorId")
+    int deleteByTutorId(@Param("tutorId") Long tutorId);
+}
@@ -0,0 +1,32 @@
+package com.edulink.taskmanagement.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.edulink.taskmanagement.model.StudentSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StudentSummaryRepository extends JpaRepository<StudentSummary, Long> {
+    // Run as a JDBC batch before locking: two writers creating the same student's summary both end up locking the
+    // one row instead of racing to INSERT it
+    String INSERT_IF_ABSENT = "INSERT INTO student_summaries (student_id, grade, status, completion_average, " +
+        "progress_sum, progress_count, score_sum, score_count, assigned_tasks, completed_tasks, in_progress_tasks) " +
+        "VALUES (:studentId, 'N/A', 'PENDING', 0, 0, 0, 0, 0, 0, 0, 0) ON DUPLICATE KEY UPDATE student_id = student_id";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StudentSummary s WHERE s.studentId = :studentId")
+    Optional<StudentSummary> findForUpdate(@Param("studentId") Long studentId);
+
+    // Ascending ids keep the lock order stable across writers
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StudentSummary s WHERE s.studentId IN :studentIds ORDER BY s.studentId")
+    List<StudentSummary> findAllForUpdate(@Param("studentIds") Collection<Long> studentIds);
+}
@@ -1,30 +1,164 @@
 package com.edulink.taskmanagement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.edulink.taskmanagement.model.Task;
 import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.response.CalendarEventResponse;
+import com.edulink.taskmanagement.payload.response.TaskDetailResponse;
+import com.edulink.taskmanagement.payload.response.TaskListResponse;
+import com.edulink.taskmanagement.repository.projection.TaskAssignee;
+import com.edulink.taskmanagement.repository.projection.TaskDeadline;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    // Read models are built with constructor expressions so list/detail/calendar reads never load entities
+    String LIST_ITEM = "SELECT new com.edulink.taskmanagement.payload.response.TaskListResponse(" +
+        "t.id, t.title, t.description, t.deadline, t.status, t.subject, t.maxScore, t.attachmentUrl, c.id, c.name, c.email) " +
+        "FROM Task t LEFT JOIN t.createdBy c ";
+    String CALENDAR_EVENT = "SELECT new com.edulink.taskmanagement.payload.response.CalendarEventResponse(" +
+        "t.id, t.title, t.subject, t.deadline, t.status) FROM Task t ";
+
     List<Task> findByCreatedBy(User user);
 
-    @Query("SELECT t FROM Task t JOIN t.assignees a WHERE a.id = :userId")
-    List<Task> findByAssigneeId(@Param("userId") Long userId);
+    @Query(LIST_ITEM)
+    List<TaskListResponse> findListItems();
+
+    @Query(LIST_ITEM + "WHERE c.id = :tutorId")
+    List<TaskListResponse> findListItemsByCreatedById(@Param("tutorId") Long tutorId);
+
+    @Query(LIST_ITEM + "JOIN t.assignees a WHERE a.id = :studentId")
+    List<TaskListResponse> findListItemsByAssigneeId(@Param("studentId") Long studentId);
+
+    @Query(LIST_ITEM + "WHERE t.id IN :ids")
+    List<TaskListResponse> findListItemsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(LIST_ITEM + "WHERE t.deadline BETWEEN :start AND :end")
+    List<TaskListResponse> findListItemsByDeadlineBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // Status is maintained by the overdue sweeper, so this is a lookup on idx_tasks_status_deadline
+    @Query(LIST_ITEM + "WHERE t.status = 'OVERDUE' ORDER BY t.deadline, t.id")
+    List<TaskListResponse> findOverdueListItems();
+
+    @Query("SELECT a.id FROM Task t JOIN t.assignees a WHERE t.id = :taskId")
+    List<Long> findAssigneeIds(@Param("taskId") Long taskId);
+
+    @Query("SELECT DISTINCT t.createdBy.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findCreatorIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT a.id FROM Task t JOIN t.assignees a WHERE t.id IN :ids")
+    List<Long> findAssigneeIdsByTaskIds(@Param("ids") Collection<Long> ids);
+
+    // Everyone whose task lists show this user's name: the tutors of their tasks and the students of the tasks they set
+    @Query("SELECT DISTINCT t.createdBy.id FROM Task t JOIN t.assignees a WHERE a.id = :userId")
+    List<Long> findCreatorIdsByAssigneeId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT a.id FROM Task t JOIN t.assignees a WHERE t.createdBy.id = :userId")
+    List<Long> findAssigneeIdsByCreatedById(@Param("userId") Long userId);
+
+    // Touches only the status column so concurrent edits to the task are not overwritten
+    @Modifying
+    @Query("UPDATE Task t SET t.status = 'COMPLETED', t.version = t.version + 1 WHERE t.id IN :ids AND t.status <> 'COMPLETED'")
+    int markCompleted(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id AS id, t.deadline AS deadline FROM Task t " +
+           "WHERE t.status = 'PENDING' AND t.deadline > :from AND t.deadline <= :to")
+    List<TaskDeadline> findPendingDeadlinesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT t.id FROM Task t WHERE t.status = 'PENDING' AND t.deadline <= :now ORDER BY t.deadline, t.id")
+    List<Long> findPendingIdsDueBy(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Re-checks status and deadline so stale queue entries and concurrent edits are no-ops
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.status = 'OVERDUE', t.version = t.version + 1 WHERE t.id IN :ids AND t.status = 'PENDING' AND t.deadline <= :now")
+    int markOverdue(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.edulink.taskmanagement.payload.response.TaskDetailResponse(" +
+           "t.id, t.title, t.description, t.deadline, t.status, t.subject, t.maxScore, t.attachmentUrl, c.id, c.name, c.email, " +
+           "(SELECT COUNT(p) FROM Progress p WHERE p.task = t)) " +
+           "FROM Task t LEFT JOIN t.createdBy c WHERE t.id = :id")
+    Optional<TaskDetailResponse> findDetailResponseById(@Param("id") Long id);
+
+    // Assignees of a batch of read models, fetched in one statement
+    @Query("SELECT t.id AS taskId, a.id AS id, a.name AS name, a.email AS email " +
+           "FROM Task t JOIN t.assignees a WHERE t.id IN :taskIds")
+    List<TaskAssignee> findAssigneesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // Range scans on idx_tasks_creator_deadline and idx_task_assignees_user_task
+    @Query(CALENDAR_EVENT + "WHERE t.createdBy.id = :tutorId AND t.deadline BETWEEN :from AND :to ORDER BY t.deadline, t.id")
+    List<CalendarEventResponse> findCalendarEventsByCreatorBetween(@Param("tutorId") Long tutorId,
+                                                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(CALENDAR_EVENT + "JOIN t.assignees a WHERE a.id = :studentId AND t.deadline BETWEEN :from AND :to ORDER BY t.deadline, t.id")
+    List<CalendarEventResponse> findCalendarEventsByAssigneeBetween(@Param("studentId") Long studentId,
+                                                                    @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @EntityGraph(Task.ANALYTICS_VIEW)
+    @Query("SELECT t FROM Task t WHERE t.createdBy.id = :tutorId")
+    List<Task> findAnalyticsViewByCreatedById(@Param("tutorId") Long tutorId);
+
+    @EntityGraph(Task.DETAIL_VIEW)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findDetailById(@Param("id") Long id);
 
     List<Task> findByDeadlineBefore(LocalDateTime date);
 
-    @Query("SELECT t FROM Task t WHERE t.deadline BETWEEN :start AND :end")
-    List<Task> findByDeadlineBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    // Keyset pages on (deadline, id) after the given key. A missing deadline pages as the earliest MySQL DATETIME
+    // (KeysetCursor.NO_DEADLINE); a NULL in the key would end the scroll at the first task without one.
+    // Assignees are not join-fetched here so the LIMIT stays in SQL; they are batch-loaded
+    String PAGE_KEY = "COALESCE(t.deadline, {ts '1000-01-01 00:00:00'})";
+    String PAGE_AFTER = "(" + PAGE_KEY + " > :deadline OR (" + PAGE_KEY + " = :deadline AND t.id > :id)) " +
+                        "ORDER BY " + PAGE_KEY + ", t.id";
+
+    @EntityGraph(attributePaths = "createdBy")
+    @Query("SELECT t FROM Task t WHERE " + PAGE_AFTER)
+    List<Task> findPageAfter(@Param("deadline") LocalDateTime deadline, @Param("id") Long id, Limit limit);
+
+    @EntityGraph(attributePaths = "createdBy")
+    @Query("SELECT t FROM Task t WHERE t.createdBy.id = :tutorId AND " + PAGE_AFTER)
+    List<Task> findPageByCreatedByIdAfter(@Param("tutorId") Long tutorId, @Param("deadline") LocalDateTime deadline,
+                                          @Param("id") Long id, Limit limit);
+
+    @EntityGraph(attributePaths = "createdBy")
+    @Query("SELECT t FROM Task t JOIN t.assignees a WHERE a.id = :studentId AND " + PAGE_AFTER)
+    List<Task> findPageByAssigneeIdAfter(@Param("studentId") Long studentId, @Param("deadline") LocalDateTime deadline,
+                                         @Param("id") Long id, Limit limit);
+
+    @Query("SELECT t.id FROM Task t WHERE t.attachmentHash IS NULL AND t.attachmentUrl LIKE '/uploads/%' " +
+           "AND t.id > :afterId ORDER BY t.id")
+    List<Long> findLegacyAttachmentIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.deadline < :now AND t.status = 'PENDING'")
-    List<Task> findOverdueTasks(@Param("now") LocalDateTime now);
+    // [assigneeId, assigned, completed, inProgress]
+    @Query("SELECT a.id, COUNT(t), " +
+           "SUM(CASE WHEN t.status = 'COMPLETED' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN t.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) " +
+           "FROM Task t JOIN t.assignees a WHERE a.id IN :userIds GROUP BY a.id")
+    List<Object[]> countTaskStatusesByAssignee(@Param("userIds") Collection<Long> userIds);
 
-    
+    // Forward-only read for exports; the caller must consume it inside a transaction and close it
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t WHERE t.createdBy.id = :tutorId " +
+           "AND (:from IS NULL OR t.deadline >= :from) AND (:to IS NULL OR t.deadline < :to) ORDER BY t.id")
+    Stream<Task> streamByCreatedById(@Param("tutorId") Long tutorId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
@@ -1,14 +1,27 @@
 package com.edulink.taskmanagement.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.response.UserDetailResponse;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.edulink.taskmanagement.payload.response.UserDetailResponse(" +
+           "u.id, u.email, u.name, u.role, u.grade, u.status, u.lastActive, u.preferences) " +
+           "FROM User u WHERE UPPER(u.role) = UPPER(:role)")
+    List<UserDetailResponse> findDetailsByRole(@Param("role") String role);
+
+    @Query("SELECT u.id FROM User u WHERE UPPER(u.role) = UPPER(:role) AND u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsByRoleAfter(@Param("role") String role, @Param("afterId") Long afterId, Pageable pageable);
+}
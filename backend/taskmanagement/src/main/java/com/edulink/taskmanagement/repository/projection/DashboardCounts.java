@@ -0,0 +1,4 @@
+package com.edulink.taskmanagement.repository.projection;
+
+public interface DashboardCounts extends GradeDistributionCounts, SubmissionTimelineCounts {
+}
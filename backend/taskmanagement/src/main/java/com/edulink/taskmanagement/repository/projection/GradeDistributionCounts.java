@@ -0,0 +1,8 @@
+package com.edulink.taskmanagement.repository.projection;
+
+public interface GradeDistributionCounts {
+    Long getGradeA();
+    Long getGradeB();
+    Long getGradeC();
+    Long getGradeDOrF();
+}
@@ -0,0 +1,9 @@
+package com.edulink.taskmanagement.repository.projection;
+
+public interface SubmissionTimelineCounts {
+    Long getEarly();
+    Long getOnTime();
+    Long getLate();
+    Long getAfterDeadline();
+    Long getIncomplete();
+}
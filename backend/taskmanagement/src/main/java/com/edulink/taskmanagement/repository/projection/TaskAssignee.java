@@ -0,0 +1,8 @@
+package com.edulink.taskmanagement.repository.projection;
+
+public interface TaskAssignee {
+    Long getTaskId();
+    Long getId();
+    String getName();
+    String getEmail();
+}
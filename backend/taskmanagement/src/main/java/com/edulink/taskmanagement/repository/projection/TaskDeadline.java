@@ -0,0 +1,8 @@
+package com.edulink.taskmanagement.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface TaskDeadline {
+    Long getId();
+    LocalDateTime getDeadline();
+}
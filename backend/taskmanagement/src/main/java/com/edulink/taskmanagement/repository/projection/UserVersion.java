@@ -0,0 +1,6 @@
+package com.edulink.taskmanagement.repository.projection;
+
+public interface UserVersion {
+    Long getUserId();
+    long getVersion();
+}
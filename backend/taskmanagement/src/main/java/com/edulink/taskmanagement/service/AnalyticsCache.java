@@ -0,0 +1,10 @@
+package com.edulink.taskmanagement.service;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+public interface AnalyticsCache {
+    <T> T get(AnalyticsKey key, Supplier<T> loader);
+    void invalidate(Collection<Long> tutorIds, Collection<Long> taskIds);
+    void invalidateAll();
+}
@@ -0,0 +1,115 @@
+package com.edulink.taskmanagement.service;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+@Service
+public class AnalyticsCacheImpl implements AnalyticsCache {
+
+    private static final int STRIPES = 64;
+
+    private final Map<AnalyticsKey, CachedResult> results;
+    private final long ttlNanos;
+    private final Object[] loadLocks = new Object[STRIPES];
+    // Bumped on every invalidation; a result computed across a bump may predate the write and is not stored
+    private final AtomicLongArray tutorGenerations = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray taskGenerations = new AtomicLongArray(STRIPES);
+
+    public AnalyticsCacheImpl(@Value("${edulink.analytics.cache-max-entries:1000}") int maxEntries,
+                              @Value("${edulink.analytics.cache-ttl:PT5M}") Duration ttl) {
+        // Access-ordered so the least recently viewed dashboard is dropped first
+        this.results = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AnalyticsKey, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.ttlNanos = ttl.toNanos();
+        Arrays.setAll(loadLocks, i -> new Object());
+    }
+
+    // Writes on this node invalidate on commit; the TTL bounds time-dependent answers (the submission timeline
+    // moves as deadlines pass) and writes made on other nodes
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(AnalyticsKey key, Supplier<T> loader) {
+        CachedResult cached = results.get(key);
+        if (isFresh(cached)) {
+            return (T) cached.value;
+        }
+        // Identical requests from one dashboard load wait for the first one instead of each computing
+        synchronized (loadLocks[Math.floorMod(key.hashCode(), STRIPES)]) {
+            cached = results.get(key);
+            if (isFresh(cached)) {
+                return (T) cached.value;
+            }
+            long generation = generation(key);
+            T value = loader.get();
+            if (generation == generation(key)) {
+                results.put(key, new CachedResult(value, System.nanoTime()));
+            }
+            return value;
+        }
+    }
+
+    // Deferred to commit so a reader can't cache the old answer between the write and its commit
+    @Override
+    public void invalidate(Collection<Long> tutorIds, Collection<Long> taskIds) {
+        Set<Long> tutors = new HashSet<>(tutorIds);
+        Set<Long> tasks = new HashSet<>(taskIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(tutors, tasks);
+                }
+            });
+        } else {
+            evict(tutors, tasks);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            tutorGenerations.incrementAndGet(i);
+            taskGenerations.incrementAndGet(i);
+        }
+        results.clear();
+    }
+
+    private void evict(Set<Long> tutors, Set<Long> tasks) {
+        tutors.forEach(tutorId -> tutorGenerations.incrementAndGet(stripe(tutorId)));
+        tasks.forEach(taskId -> taskGenerations.incrementAndGet(stripe(taskId)));
+        synchronized (results) {
+            results.keySet().removeIf(key -> tutors.contains(key.getTutorId()) || tasks.contains(key.getTaskId()));
+        }
+    }
+
+    private long generation(AnalyticsKey key) {
+        return (key.getTutorId() != null ? tutorGenerations.get(stripe(key.getTutorId())) : 0)
+            + (key.getTaskId() != null ? taskGenerations.get(stripe(key.getTaskId())) : 0);
+    }
+
+    private static int stripe(Long id) {
+        return Math.floorMod(id.hashCode(), STRIPES);
+    }
+
+    private boolean isFresh(CachedResult cached) {
+        return cached != null && System.nanoTime() - cached.loadedAtNanos < ttlNanos;
+    }
+
+    @AllArgsConstructor
+    private static class CachedResult {
+        private final Object value;
+        private final long loadedAtNanos;
+    }
+}
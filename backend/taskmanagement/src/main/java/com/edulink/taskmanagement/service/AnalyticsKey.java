@@ -0,0 +1,25 @@
+package com.edulink.taskmanagement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One analytics answer: the method plus every parameter it was called with. Tutor-scoped answers carry the
+// tutorId, per-task answers the taskId; both are what invalidation matches on
+@Data
+@AllArgsConstructor
+public class AnalyticsKey {
+    private String method;
+    private Long tutorId;
+    private Long taskId;
+    private Long studentId;
+    private String subject;
+    private String period;
+
+    public static AnalyticsKey forTutor(String method, Long tutorId, Long studentId, String subject, String period) {
+        return new AnalyticsKey(method, tutorId, null, studentId, subject, period);
+    }
+
+    public static AnalyticsKey forTask(String method, Long taskId) {
+        return new AnalyticsKey(method, null, taskId, null, null, null);
+    }
+}
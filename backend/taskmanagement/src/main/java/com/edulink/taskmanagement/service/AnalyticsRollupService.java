@@ -0,0 +1,22 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Progress;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface AnalyticsRollupService {
+    // Only for submissions that created their progress row; resubmissions leave the buckets unchanged
+    void recordSubmission(Progress progress);
+    void recordSubmissions(Collection<Progress> submissions);
+    void recordGrade(Progress progress, Integer previousScore);
+    void recordGrades(Collection<Progress> graded, Map<Long, Integer> previousScores);
+    void moveTask(Long taskId, Long tutorId, String oldSubject, LocalDateTime oldDeadline, String newSubject, LocalDateTime newDeadline);
+    void removeTask(Long taskId, Long tutorId, String subject, LocalDateTime deadline);
+    List<Double> getScoreSeries(Long tutorId, Long studentId, String subject, String period);
+    Map<String, List<Double>> getScoreSeriesBySubject(Long tutorId, Long studentId, String period);
+    ScoreSeries getScoreSeriesSnapshot(Long tutorId, Long studentId, String subject, String period);
+    int verifyTutor(Long tutorId, boolean repair);
+}
@@ -0,0 +1,306 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.ScoreRollup;
+import com.edulink.taskmanagement.model.ScoreRollupId;
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import com.edulink.taskmanagement.repository.ScoreRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.WeekFields;
+import java.util.*;
+
+@Service
+public class AnalyticsRollupServiceImpl implements AnalyticsRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsRollupServiceImpl.class);
+
+    @Autowired
+    private ScoreRollupRepository scoreRollupRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Override
+    @Transactional
+    public void recordSubmission(Progress progress) {
+        Task task = progress.getTask();
+        if (task.getDeadline() == null) {
+            return;
+        }
+        scoreRollupRepository.increment(task.getCreatedBy().getId(), subjectKey(task.getSubject()), progress.getStudent().getId(),
+            task.getDeadline().toLocalDate(), progress.getScore() != null ? progress.getScore() : 0, 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordGrade(Progress progress, Integer previousScore) {
+        Task task = progress.getTask();
+        long delta = (progress.getScore() != null ? progress.getScore() : 0) - (previousScore != null ? previousScore : 0);
+        if (task.getDeadline() == null || delta == 0) {
+            return;
+        }
+        scoreRollupRepository.increment(task.getCreatedBy().getId(), subjectKey(task.getSubject()), progress.getStudent().getId(),
+            task.getDeadline().toLocalDate(), delta, 0);
+    }
+
+    @Override
+    @Transactional
+    public void recordSubmissions(Collection<Progress> submissions) {
+        Map<ScoreRollupId, long[]> deltas = new LinkedHashMap<>();
+        for (Progress progress : submissions) {
+            Task task = progress.getTask();
+            if (task.getDeadline() == null) {
+                continue;
+            }
+            long[] delta = deltas.computeIfAbsent(rollupId(task, progress), id -> new long[2]);
+            delta[0] += progress.getScore() != null ? progress.getScore() : 0;
+            delta[1]++;
+        }
+        incrementAll(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void recordGrades(Collection<Progress> graded, Map<Long, Integer> previousScores) {
+        Map<ScoreRollupId, long[]> deltas = new LinkedHashMap<>();
+        for (Progress progress : graded) {
+            Task task = progress.getTask();
+            Integer previousScore = previousScores.get(progress.getId());
+            long delta = (progress.getScore() != null ? progress.getScore() : 0) - (previousScore != null ? previousScore : 0);
+            if (task.getDeadline() == null || delta == 0) {
+                continue;
+            }
+            deltas.computeIfAbsent(rollupId(task, progress), id -> new long[2])[0] += delta;
+        }
+        incrementAll(deltas);
+    }
+
+    // One JDBC batch instead of an upsert round trip per bucket
+    private void incrementAll(Map<ScoreRollupId, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batch = deltas.entrySet().stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("tutorId", entry.getKey().getTutorId())
+                .addValue("subject", entry.getKey().getSubject())
+                .addValue("studentId", entry.getKey().getStudentId())
+                .addValue("bucketDate", entry.getKey().getBucketDate())
+                .addValue("scoreDelta", entry.getValue()[0])
+                .addValue("countDelta", entry.getValue()[1]))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ScoreRollupRepository.INCREMENT, batch);
+    }
+
+    private static ScoreRollupId rollupId(Task task, Progress progress) {
+        return new ScoreRollupId(task.getCreatedBy().getId(), subjectKey(task.getSubject()),
+            progress.getStudent().getId(), task.getDeadline().toLocalDate());
+    }
+
+    @Override
+    @Transactional
+    public void moveTask(Long taskId, Long tutorId, String oldSubject, LocalDateTime oldDeadline, String newSubject, LocalDateTime newDeadline) {
+        LocalDate oldDay = oldDeadline != null ? oldDeadline.toLocalDate() : null;
+        LocalDate newDay = newDeadline != null ? newDeadline.toLocalDate() : null;
+        if (Objects.equals(oldDay, newDay) && subjectKey(oldSubject).equals(subjectKey(newSubject))) {
+            return;
+        }
+        for (Object[] row : progressRepository.sumScoresByStudentForTask(taskId)) {
+            Long studentId = (Long) row[0];
+            long scoreSum = ((Number) row[1]).longValue();
+            long scoreCount = ((Number) row[2]).longValue();
+            if (oldDay != null) {
+                scoreRollupRepository.increment(tutorId, subjectKey(oldSubject), studentId, oldDay, -scoreSum, -scoreCount);
+            }
+            if (newDay != null) {
+                scoreRollupRepository.increment(tutorId, subjectKey(newSubject), studentId, newDay, scoreSum, scoreCount);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void removeTask(Long taskId, Long tutorId, String subject, LocalDateTime deadline) {
+        moveTask(taskId, tutorId, subject, deadline, subject, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Double> getScoreSeries(Long tutorId, Long studentId, String subject, String period) {
+        PeriodWindow window = PeriodWindow.of(period);
+        LocalDate today = LocalDate.now();
+        LocalDate from = window.bucketStart(0, today);
+        Map<LocalDate, long[]> buckets = new HashMap<>();
+        for (Object[] row : scoreRollupRepository.sumByDay(tutorId, studentId, subject, from, today)) {
+            accumulate(buckets, window.periodStart((LocalDate) row[0]), row[1], row[2]);
+        }
+        return window.series(buckets, today);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, List<Double>> getScoreSeriesBySubject(Long tutorId, Long studentId, String period) {
+        PeriodWindow window = PeriodWindow.of(period);
+        LocalDate today = LocalDate.now();
+        LocalDate from = window.bucketStart(0, today);
+        LocalDate to = window.bucketStart(window.range, today).minusDays(1);
+        Map<String, Map<LocalDate, long[]>> bySubject = new TreeMap<>();
+        for (Object[] row : scoreRollupRepository.sumBySubjectAndDay(tutorId, studentId, from, to)) {
+            Map<LocalDate, long[]> buckets = bySubject.computeIfAbsent((String) row[0], s -> new HashMap<>());
+            accumulate(buckets, window.periodStart((LocalDate) row[1]), row[2], row[3]);
+        }
+        return performance(window, bySubject, today);
+    }
+
+    // getScoreSeries and getScoreSeriesBySubject from one read: the per-subject window (to the end of the current
+    // period) covers the overall one (to today), which is narrowed and subject-filtered here instead of in SQL
+    @Override
+    @Transactional(readOnly = true)
+    public ScoreSeries getScoreSeriesSnapshot(Long tutorId, Long studentId, String subject, String period) {
+        PeriodWindow window = PeriodWindow.of(period);
+        LocalDate today = LocalDate.now();
+        LocalDate from = window.bucketStart(0, today);
+        LocalDate to = window.bucketStart(window.range, today).minusDays(1);
+        Map<LocalDate, long[]> overall = new HashMap<>();
+        Map<String, Map<LocalDate, long[]>> bySubject = new TreeMap<>();
+        for (Object[] row : scoreRollupRepository.sumBySubjectAndDay(tutorId, studentId, from, to)) {
+            String rowSubject = (String) row[0];
+            LocalDate day = (LocalDate) row[1];
+            accumulate(bySubject.computeIfAbsent(rowSubject, s -> new HashMap<>()), window.periodStart(day), row[2], row[3]);
+            if (!day.isAfter(today) && (subject == null || subject.equalsIgnoreCase(rowSubject))) {
+                accumulate(overall, window.periodStart(day), row[2], row[3]);
+            }
+        }
+        return new ScoreSeries(window.series(overall, today), performance(window, bySubject, today));
+    }
+
+    private Map<String, List<Double>> performance(PeriodWindow window, Map<String, Map<LocalDate, long[]>> bySubject, LocalDate today) {
+        Map<String, List<Double>> performance = new LinkedHashMap<>();
+        bySubject.forEach((subj, buckets) -> {
+            if (buckets.values().stream().anyMatch(b -> b[1] > 0)) {
+                performance.put(subj, window.series(buckets, today));
+            }
+        });
+        return performance;
+    }
+
+    @Override
+    @Transactional
+    public int verifyTutor(Long tutorId, boolean repair) {
+        Map<ScoreRollupId, long[]> expected = new HashMap<>();
+        for (Object[] row : progressRepository.sumScoresByTaskAndStudentForTutor(tutorId)) {
+            ScoreRollupId id = new ScoreRollupId(tutorId, subjectKey((String) row[0]), (Long) row[2], ((LocalDateTime) row[1]).toLocalDate());
+            long[] sums = expected.computeIfAbsent(id, k -> new long[2]);
+            sums[0] += ((Number) row[3]).longValue();
+            sums[1] += ((Number) row[4]).longValue();
+        }
+
+        int drifted = 0;
+        Set<ScoreRollupId> seen = new HashSet<>();
+        for (ScoreRollup rollup : scoreRollupRepository.findByTutorId(tutorId)) {
+            seen.add(rollup.getId());
+            long[] sums = expected.getOrDefault(rollup.getId(), new long[2]);
+            if (sums[0] != rollup.getScoreSum() || sums[1] != rollup.getScoreCount()) {
+                drifted++;
+            }
+        }
+        for (ScoreRollupId id : expected.keySet()) {
+            if (!seen.contains(id)) {
+                drifted++;
+            }
+        }
+
+        if (drifted > 0) {
+            logger.warn("Score rollups for tutorId {} have {} drifted buckets{}", tutorId, drifted, repair ? ", rebuilding" : "");
+        }
+        if (repair && drifted > 0) {
+            scoreRollupRepository.deleteByTutorId(tutorId);
+            List<ScoreRollup> rebuilt = new ArrayList<>();
+            expected.forEach((id, sums) -> {
+                ScoreRollup rollup = new ScoreRollup();
+                rollup.setId(id);
+                rollup.setScoreSum(sums[0]);
+                rollup.setScoreCount(sums[1]);
+                rebuilt.add(rollup);
+            });
+            scoreRollupRepository.saveAll(rebuilt);
+            analyticsCache.invalidate(List.of(tutorId), List.of());
+            dataVersionService.bump(List.of(tutorId));
+        }
+        return drifted;
+    }
+
+    private void accumulate(Map<LocalDate, long[]> buckets, LocalDate bucket, Object scoreSum, Object scoreCount) {
+        long[] sums = buckets.computeIfAbsent(bucket, b -> new long[2]);
+        sums[0] += ((Number) scoreSum).longValue();
+        sums[1] += ((Number) scoreCount).longValue();
+    }
+
+    private static String subjectKey(String subject) {
+        return subject != null ? subject : "";
+    }
+
+    // The chart windows used by the statistics page: 7 days, 7 weeks, 6 months or 5 years
+    private static class PeriodWindow {
+        private final int range;
+        private final ChronoUnit unit;
+
+        private PeriodWindow(int range, ChronoUnit unit) {
+            this.range = range;
+            this.unit = unit;
+        }
+
+        static PeriodWindow of(String period) {
+            switch (period.toLowerCase()) {
+                case "daily": return new PeriodWindow(7, ChronoUnit.DAYS);
+                case "weekly": return new PeriodWindow(7, ChronoUnit.WEEKS);
+                case "monthly": return new PeriodWindow(6, ChronoUnit.MONTHS);
+                case "yearly": return new PeriodWindow(5, ChronoUnit.YEARS);
+                default: throw new IllegalArgumentException("Invalid period: " + period);
+            }
+        }
+
+        LocalDate periodStart(LocalDate day) {
+            switch (unit) {
+                case WEEKS: return day.with(WeekFields.of(Locale.getDefault()).dayOfWeek(), 1);
+                case MONTHS: return day.withDayOfMonth(1);
+                case YEARS: return day.withDayOfYear(1);
+                default: return day;
+            }
+        }
+
+        // Start of the i-th bucket, counting from the oldest one in the window
+        LocalDate bucketStart(int i, LocalDate today) {
+            return periodStart(today).minus(range - 1 - i, unit);
+        }
+
+        List<Double> series(Map<LocalDate, long[]> buckets, LocalDate today) {
+            List<Double> result = new ArrayList<>();
+            for (int i = 0; i < range; i++) {
+                long[] sums = buckets.get(bucketStart(i, today));
+                result.add(sums == null || sums[1] == 0 ? 0.0 : (double) sums[0] / sums[1]);
+            }
+            return result;
+        }
+    }
+}
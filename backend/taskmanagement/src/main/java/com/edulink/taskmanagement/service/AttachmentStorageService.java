@@ -0,0 +1,20 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Attachment;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentStorageService {
+    String store(InputStream content, String contentType);
+    void release(String hash);
+    Path resolve(String hash);
+    Optional<Attachment> findAttachment(String hash);
+    List<String> findCollectable(int limit);
+    boolean collect(String hash);
+    int sweepUntracked();
+    Optional<String> adoptLegacyUpload(String url);
+    void deleteLegacyUpload(String url);
+}
@@ -0,0 +1,226 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Attachment;
+import com.edulink.taskmanagement.repository.AttachmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Stream;
+
+// Blobs live at <root>/blobs/ab/cd/<sha256>; uploads are hashed while they stream to <root>/tmp
+@Service
+public class AttachmentStorageServiceImpl implements AttachmentStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentStorageServiceImpl.class);
+    private static final String LEGACY_PREFIX = "/uploads/";
+    private static final int SWEEP_BATCH = 500;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Value("${edulink.attachments.root:uploads}")
+    private String root;
+
+    @Value("${edulink.attachments.gc-grace-minutes:60}")
+    private long graceMinutes;
+
+    @Override
+    @Transactional
+    public String store(InputStream content, String contentType) {
+        Path temp = null;
+        try {
+            Path tmpDir = Paths.get(root, "tmp");
+            Files.createDirectories(tmpDir);
+            temp = Files.createTempFile(tmpDir, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            // Reference first, then place the blob: a collection of the same hash holds the row lock
+            // until its file is gone, so a fresh reference never points at a deleted blob
+            attachmentRepository.acquire(hash, size, contentType, LocalDateTime.now());
+            Path target = resolve(hash);
+            if (Files.exists(target)) {
+                // Keeps the untracked-blob sweep away until our row is committed
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                temp = null;
+            }
+            return hash;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to store attachment: " + e.getMessage());
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(String hash) {
+        if (hash != null) {
+            attachmentRepository.release(hash, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public Path resolve(String hash) {
+        if (hash == null || !hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid attachment hash: " + hash);
+        }
+        return Paths.get(root, "blobs", hash.substring(0, 2), hash.substring(2, 4), hash);
+    }
+
+    @Override
+    public Optional<Attachment> findAttachment(String hash) {
+        resolve(hash); // rejects malformed hashes
+        return attachmentRepository.findById(hash);
+    }
+
+    @Override
+    public List<String> findCollectable(int limit) {
+        return attachmentRepository.findOrphanHashes(LocalDateTime.now().minusMinutes(graceMinutes), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public boolean collect(String hash) {
+        // The row lock is held until the file is gone, so store() either revives the row first or recreates the blob
+        Optional<Attachment> attachment = attachmentRepository.findForUpdate(hash);
+        if (attachment.isEmpty() || attachment.get().getReferenceCount() > 0) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(resolve(hash));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to delete attachment " + hash + ": " + e.getMessage());
+        }
+        attachmentRepository.delete(attachment.get());
+        return true;
+    }
+
+    @Override
+    public int sweepUntracked() {
+        // Blobs without a row are left by rolled-back uploads; stale temp files by interrupted ones
+        Instant cutoff = Instant.now().minus(graceMinutes, ChronoUnit.MINUTES);
+        int removed = 0;
+        Path tmpDir = Paths.get(root, "tmp");
+        if (Files.isDirectory(tmpDir)) {
+            try (Stream<Path> files = Files.list(tmpDir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    if (isOlderThan(file, cutoff) && deleteQuietly(file)) {
+                        removed++;
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Could not scan {}", tmpDir, e);
+            }
+        }
+
+        Path blobDir = Paths.get(root, "blobs");
+        if (!Files.isDirectory(blobDir)) {
+            return removed;
+        }
+        try (Stream<Path> files = Files.walk(blobDir)) {
+            Map<String, Path> candidates = new HashMap<>();
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && isOlderThan(file, cutoff)) {
+                    candidates.put(file.getFileName().toString(), file);
+                    if (candidates.size() == SWEEP_BATCH) {
+                        removed += deleteUntracked(candidates);
+                    }
+                }
+            }
+            removed += deleteUntracked(candidates);
+        } catch (IOException e) {
+            logger.warn("Could not scan {}", blobDir, e);
+        }
+        return removed;
+    }
+
+    @Override
+    public Optional<String> adoptLegacyUpload(String url) {
+        Path legacy = legacyPath(url);
+        if (legacy == null || !Files.isRegularFile(legacy)) {
+            return Optional.empty();
+        }
+        try (InputStream in = Files.newInputStream(legacy)) {
+            return Optional.of(store(in, Files.probeContentType(legacy)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read legacy upload " + legacy + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void deleteLegacyUpload(String url) {
+        deleteQuietly(legacyPath(url));
+    }
+
+    private int deleteUntracked(Map<String, Path> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        attachmentRepository.findAllById(candidates.keySet()).forEach(a -> candidates.remove(a.getHash()));
+        int removed = 0;
+        for (Path file : candidates.values()) {
+            if (deleteQuietly(file)) {
+                removed++;
+            }
+        }
+        candidates.clear();
+        return removed;
+    }
+
+    private Path legacyPath(String url) {
+        if (url == null || !url.startsWith(LEGACY_PREFIX)) {
+            return null;
+        }
+        String fileName = url.substring(LEGACY_PREFIX.length());
+        if (fileName.isEmpty() || fileName.contains("/") || fileName.contains("\\") || fileName.equals("..")) {
+            return null;
+        }
+        return Paths.get(root, fileName);
+    }
+
+    private boolean isOlderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean deleteQuietly(Path file) {
+        if (file == null) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}", file, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.edulink.taskmanagement.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface CalendarFeedService {
+    void recordChanges(Long taskId, Collection<Long> updatedFor, Collection<Long> removedFor);
+    void recordChanges(Map<Long, ? extends Collection<Long>> updatedForByTask);
+    long getVersion(Long userId, String role);
+    long parseSyncToken(String token);
+    String syncToken(long version);
+    String renderFeed(Long userId, String role, Long sinceVersion, long version);
+    int pruneChanges();
+}
@@ -0,0 +1,224 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.CalendarChange;
+import com.edulink.taskmanagement.payload.response.TaskListResponse;
+import com.edulink.taskmanagement.repository.CalendarChangeRepository;
+import com.edulink.taskmanagement.repository.CalendarVersionRepository;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Service
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+
+    private static final DateTimeFormatter ICS_UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    @Autowired
+    private CalendarVersionRepository calendarVersionRepository;
+
+    @Autowired
+    private CalendarChangeRepository calendarChangeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${edulink.calendar.change-retention-days:30}")
+    private long retentionDays;
+
+    @Override
+    @Transactional
+    public void recordChanges(Long taskId, Collection<Long> updatedFor, Collection<Long> removedFor) {
+        Map<Long, Boolean> removedByUser = new TreeMap<>(); // ascending ids keep lock order stable across writers
+        removedFor.forEach(userId -> removedByUser.put(userId, true));
+        updatedFor.forEach(userId -> removedByUser.put(userId, false));
+        LocalDateTime now = LocalDateTime.now();
+        List<CalendarChange> changes = new ArrayList<>();
+        Map<Long, Long> versions = increment(removedByUser.keySet());
+        removedByUser.forEach((userId, removed) -> {
+            CalendarChange change = new CalendarChange();
+            change.setUserId(userId);
+            change.setVersion(versions.get(userId));
+            change.setTaskId(taskId);
+            change.setRemoved(removed);
+            change.setChangedAt(now);
+            changes.add(change);
+        });
+        calendarChangeRepository.saveAll(changes);
+    }
+
+    // Bulk variant: each user's version moves once for all of their new or changed tasks
+    @Override
+    @Transactional
+    public void recordChanges(Map<Long, ? extends Collection<Long>> updatedForByTask) {
+        Map<Long, List<Long>> tasksByUser = new TreeMap<>();
+        updatedForByTask.forEach((taskId, userIds) ->
+            userIds.forEach(userId -> tasksByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(taskId)));
+        LocalDateTime now = LocalDateTime.now();
+        List<CalendarChange> changes = new ArrayList<>();
+        Map<Long, Long> versions = increment(tasksByUser.keySet());
+        tasksByUser.forEach((userId, taskIds) -> {
+            long version = versions.get(userId);
+            for (Long taskId : taskIds) {
+                CalendarChange change = new CalendarChange();
+                change.setUserId(userId);
+                change.setVersion(version);
+                change.setTaskId(taskId);
+                change.setRemoved(false);
+                change.setChangedAt(now);
+                changes.add(change);
+            }
+        });
+        calendarChangeRepository.saveAll(changes);
+    }
+
+    // One batch of upserts in the callers' ascending user order, then one read of the new versions
+    private Map<Long, Long> increment(Collection<Long> userIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return versions;
+        }
+        MapSqlParameterSource[] batch = userIds.stream()
+            .map(userId -> new MapSqlParameterSource("userId", userId))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(CalendarVersionRepository.INCREMENT, batch);
+        calendarVersionRepository.findVersions(userIds).forEach(version -> versions.put(version.getUserId(), version.getVersion()));
+        return versions;
+    }
+
+    @Override
+    public long getVersion(Long userId, String role) {
+        userDirectoryService.getUser(userId, role);
+        return calendarVersionRepository.findVersion(userId).orElse(0L);
+    }
+
+    // Tokens are "<version>-<issued epoch second>"; the time tells us whether the changes after it were pruned
+    @Override
+    public long parseSyncToken(String token) {
+        long version;
+        long issuedAt;
+        try {
+            int separator = token.indexOf('-');
+            version = Long.parseLong(token.substring(0, separator));
+            issuedAt = Long.parseLong(token.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+        if (Instant.ofEpochSecond(issuedAt).isBefore(Instant.now().minus(retentionDays, ChronoUnit.DAYS))) {
+            throw new IllegalStateException("Sync token expired: " + token);
+        }
+        return version;
+    }
+
+    @Override
+    public String syncToken(long version) {
+        return version + "-" + Instant.now().getEpochSecond();
+    }
+
+    @Override
+    public String renderFeed(Long userId, String role, Long sinceVersion, long version) {
+        List<TaskListResponse> tasks;
+        Set<Long> removed = new LinkedHashSet<>();
+        if (sinceVersion == null) {
+            tasks = "TUTOR".equalsIgnoreCase(role)
+                ? taskRepository.findListItemsByCreatedById(userId)
+                : taskRepository.findListItemsByAssigneeId(userId);
+        } else {
+            // Only the latest change per task matters
+            Map<Long, Boolean> latest = new LinkedHashMap<>();
+            for (CalendarChange change : calendarChangeRepository.findChanges(userId, sinceVersion, version)) {
+                latest.put(change.getTaskId(), change.isRemoved());
+            }
+            Set<Long> updated = new LinkedHashSet<>();
+            latest.forEach((taskId, isRemoved) -> (isRemoved ? removed : updated).add(taskId));
+            tasks = updated.isEmpty() ? List.of() : taskRepository.findListItemsByIds(updated);
+            Set<Long> found = new HashSet<>();
+            tasks.forEach(task -> found.add(task.getId()));
+            updated.stream().filter(id -> !found.contains(id)).forEach(removed::add); // deleted after the change was read
+        }
+
+        String stamp = ICS_UTC.format(Instant.now());
+        StringBuilder ics = new StringBuilder();
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//EduLink//Task Calendar//EN");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "X-WR-CALNAME:EduLink tasks");
+        line(ics, "X-EDULINK-SYNC-TOKEN:" + syncToken(version));
+        for (TaskListResponse task : tasks) {
+            if (task.getDeadline() == null) {
+                removed.add(task.getId());
+                continue;
+            }
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:" + uid(task.getId()));
+            line(ics, "DTSTAMP:" + stamp);
+            line(ics, "DTSTART:" + ICS_UTC.format(task.getDeadline().atZone(ZoneId.systemDefault())));
+            line(ics, "SUMMARY:" + escape(task.getSubject() != null ? "[" + task.getSubject() + "] " + task.getTitle() : task.getTitle()));
+            if (task.getDescription() != null && !task.getDescription().isEmpty()) {
+                line(ics, "DESCRIPTION:" + escape(task.getDescription()));
+            }
+            line(ics, "END:VEVENT");
+        }
+        if (sinceVersion != null) {
+            for (Long taskId : removed) {
+                line(ics, "BEGIN:VEVENT");
+                line(ics, "UID:" + uid(taskId));
+                line(ics, "DTSTAMP:" + stamp);
+                line(ics, "STATUS:CANCELLED");
+                line(ics, "END:VEVENT");
+            }
+        }
+        line(ics, "END:VCALENDAR");
+        return ics.toString();
+    }
+
+    @Override
+    @Transactional
+    public int pruneChanges() {
+        return calendarChangeRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    private String uid(Long taskId) {
+        return "task-" + taskId + "@edulink";
+    }
+
+    private String escape(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+            .replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
+    }
+
+    // RFC 5545: CRLF line endings, folded at 75 octets without splitting a UTF-8 sequence
+    private void line(StringBuilder ics, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > 75) {
+                ics.append("\r\n ");
+                octets = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append("\r\n");
+    }
+}
@@ -0,0 +1,9 @@
+package com.edulink.taskmanagement.service;
+
+import java.util.Collection;
+
+public interface DataVersionService {
+    long getVersion(Long userId);
+    void bump(Collection<Long> userIds);
+    void bumpForTasks(Collection<Long> taskIds);
+}
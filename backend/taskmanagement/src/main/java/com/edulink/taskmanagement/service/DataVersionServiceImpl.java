@@ -0,0 +1,66 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.repository.DataVersionRepository;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class DataVersionServiceImpl implements DataVersionService {
+
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${edulink.data-versions.slots:16}")
+    private int slots;
+
+    @Override
+    public long getVersion(Long userId) {
+        return dataVersionRepository.sumVersion(userId);
+    }
+
+    // Bumped in the writing transaction, so a version never commits apart from its data. Callers bump last and
+    // pending entity writes are flushed first (through the repository, so a version conflict is still translated):
+    // slot rows are locked after everything else, in ascending user order
+    @Override
+    @Transactional
+    public void bump(Collection<Long> userIds) {
+        TreeSet<Long> ids = new TreeSet<>(userIds.stream().filter(Objects::nonNull).toList());
+        if (ids.isEmpty()) {
+            return;
+        }
+        dataVersionRepository.flush();
+        int slot = ThreadLocalRandom.current().nextInt(slots);
+        MapSqlParameterSource[] batch = ids.stream()
+            .map(userId -> new MapSqlParameterSource().addValue("userId", userId).addValue("slot", slot))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(DataVersionRepository.INCREMENT, batch);
+    }
+
+    // Status changes made by bulk UPDATEs show in the lists of the tutor and every assignee
+    @Override
+    @Transactional
+    public void bumpForTasks(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        TreeSet<Long> userIds = new TreeSet<>(taskRepository.findCreatorIdsByIds(taskIds));
+        userIds.addAll(taskRepository.findAssigneeIdsByTaskIds(taskIds));
+        bump(userIds);
+    }
+}
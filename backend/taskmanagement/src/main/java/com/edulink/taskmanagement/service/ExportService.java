@@ -0,0 +1,9 @@
+package com.edulink.taskmanagement.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ExportService {
+    void exportTutorData(Long tutorId, LocalDateTime from, LocalDateTime to, String format, OutputStream out) throws IOException;
+}
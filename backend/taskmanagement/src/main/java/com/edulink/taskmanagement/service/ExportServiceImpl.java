@@ -0,0 +1,167 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final String[] CSV_HEADER = {
+        "type", "task_id", "title", "subject", "deadline", "status", "max_score",
+        "progress_id", "student_id", "student_name", "percentage_complete", "score", "submitted_at", "comment", "submission_url"
+    };
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Task rows first, then progress rows ordered by task; every row is detached once written
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTutorData(Long tutorId, LocalDateTime from, LocalDateTime to, String format, OutputStream out) throws IOException {
+        RowWriter writer = "csv".equalsIgnoreCase(format) ? new CsvRowWriter(out) : new NdjsonRowWriter(out, objectMapper);
+        try (Stream<Task> tasks = taskRepository.streamByCreatedById(tutorId, from, to)) {
+            Iterator<Task> it = tasks.iterator();
+            while (it.hasNext()) {
+                Task task = it.next();
+                writer.writeTask(task);
+                entityManager.detach(task);
+            }
+        }
+        try (Stream<Progress> progresses = progressRepository.streamByTutorId(tutorId, from, to)) {
+            Iterator<Progress> it = progresses.iterator();
+            while (it.hasNext()) {
+                Progress progress = it.next();
+                writer.writeProgress(progress);
+                entityManager.detach(progress);
+            }
+        }
+        writer.finish();
+    }
+
+    private interface RowWriter {
+        void writeTask(Task task) throws IOException;
+        void writeProgress(Progress progress) throws IOException;
+        void finish() throws IOException;
+    }
+
+    private static class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null); // rows are separated by '\n' only
+        }
+
+        @Override
+        public void writeTask(Task task) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "task");
+            generator.writeNumberField("id", task.getId());
+            generator.writeStringField("title", task.getTitle());
+            generator.writeStringField("description", task.getDescription());
+            generator.writeStringField("subject", task.getSubject());
+            generator.writeObjectField("deadline", task.getDeadline());
+            generator.writeStringField("status", task.getStatus());
+            generator.writeObjectField("maxScore", task.getMaxScore());
+            generator.writeStringField("attachmentUrl", task.getAttachmentUrl());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void writeProgress(Progress progress) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("type", "progress");
+            generator.writeNumberField("id", progress.getId());
+            generator.writeNumberField("taskId", progress.getTask().getId());
+            generator.writeNumberField("studentId", progress.getStudent().getId());
+            generator.writeStringField("studentName", progress.getStudent().getName());
+            generator.writeNumberField("percentageComplete", progress.getPercentageComplete());
+            generator.writeObjectField("score", progress.getScore());
+            generator.writeObjectField("submittedAt", progress.getSubmittedAt());
+            generator.writeStringField("comment", progress.getComment());
+            generator.writeStringField("submissionUrl", progress.getSubmissionUrl());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeRow((Object[]) CSV_HEADER);
+        }
+
+        @Override
+        public void writeTask(Task task) throws IOException {
+            writeRow("task", task.getId(), task.getTitle(), task.getSubject(), task.getDeadline(), task.getStatus(),
+                task.getMaxScore(), null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public void writeProgress(Progress progress) throws IOException {
+            writeRow("progress", progress.getTask().getId(), null, null, null, null, null,
+                progress.getId(), progress.getStudent().getId(), progress.getStudent().getName(),
+                progress.getPercentageComplete(), progress.getScore(), progress.getSubmittedAt(),
+                progress.getComment(), progress.getSubmissionUrl());
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeRow(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                return "\"" + text.replace("\"", "\"\"") + "\"";
+            }
+            return text;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.edulink.taskmanagement.service;
+
+// The Idempotency-Key was already used for a request with a different body
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key " + key + " was already used for a different request");
+    }
+}
@@ -0,0 +1,19 @@
+package com.edulink.taskmanagement.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+    // Runs work at most once per (scope, key); a retry of the same request gets the stored response back.
+    // Without a key the work simply runs.
+    <T> T execute(String scope, String key, Object request, TypeReference<T> responseType, Supplier<T> work);
+
+    // For writers that run their own transaction: claim, and if nothing was stored yet, complete in the same one
+    String fingerprint(Object request);
+    <T> Optional<T> claim(String scope, String key, String fingerprint, TypeReference<T> responseType);
+    void complete(String scope, String key, Object response);
+
+    int purgeExpired();
+}
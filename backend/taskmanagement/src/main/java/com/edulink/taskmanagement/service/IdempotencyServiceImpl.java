@@ -0,0 +1,155 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.IdempotencyKey;
+import com.edulink.taskmanagement.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${edulink.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    // The claim, the work and the stored response commit together, so a failed request leaves no key behind
+    @Override
+    public <T> T execute(String scope, String key, Object request, TypeReference<T> responseType, Supplier<T> work) {
+        if (key == null) {
+            return work.get();
+        }
+        String fingerprint = fingerprint(request);
+        return transactionTemplate.execute(status -> {
+            Optional<T> stored = claim(scope, key, fingerprint, responseType);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+            T response = work.get();
+            complete(scope, key, response);
+            return response;
+        });
+    }
+
+    @Override
+    public String fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, request);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public <T> Optional<T> claim(String scope, String key, String fingerprint, TypeReference<T> responseType) {
+        String id = id(scope, key);
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.insertIfAbsent(id, fingerprint, now, now.plus(ttl));
+        IdempotencyKey record = idempotencyKeyRepository.findForUpdate(id)
+            .orElseThrow(() -> new IllegalStateException("Idempotency key vanished: " + id));
+        if (record.getExpiresAt().isBefore(now)) {
+            // Not purged yet, but past its TTL: the key starts over
+            record.setFingerprint(fingerprint);
+            record.setResponse(null);
+            record.setCreatedAt(now);
+            record.setExpiresAt(now.plus(ttl));
+            return Optional.empty();
+        }
+        if (!record.getFingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        if (record.getResponse() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(record.getResponse(), responseType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable stored response for idempotency key " + id, e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void complete(String scope, String key, Object response) {
+        IdempotencyKey record = idempotencyKeyRepository.findById(id(scope, key))
+            .orElseThrow(() -> new IllegalStateException("Idempotency key was not claimed: " + key));
+        try {
+            record.setResponse(objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response cannot be stored for idempotency key " + key, e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        return idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private String id(String scope, String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        return scope + ":" + key;
+    }
+
+    // Uploads are hashed by content, strings as-is and anything else through its JSON form
+    private void update(MessageDigest digest, Object part) {
+        if (part == null) {
+            digest.update((byte) 0);
+        } else if (part instanceof Collection<?> parts) {
+            parts.forEach(each -> update(digest, each));
+        } else if (part instanceof MultipartFile file) {
+            update(digest, file.getOriginalFilename());
+            try (InputStream in = file.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                for (int read; (read = in.read(buffer)) != -1; ) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else if (part instanceof String text) {
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+        } else {
+            try {
+                digest.update(objectMapper.writeValueAsBytes(part));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Request cannot be fingerprinted", e);
+            }
+        }
+        digest.update((byte) 0x1f);
+    }
+}
@@ -0,0 +1,8 @@
+package com.edulink.taskmanagement.service;
+
+import java.time.Duration;
+
+public interface JobLeaseService {
+    boolean tryAcquire(String name, Duration ttl);
+    void release(String name);
+}
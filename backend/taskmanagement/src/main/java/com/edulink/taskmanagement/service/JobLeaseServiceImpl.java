@@ -0,0 +1,68 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.repository.JobLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class JobLeaseServiceImpl implements JobLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseServiceImpl.class);
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    private final String owner = hostName() + "/" + UUID.randomUUID();
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        jobLeaseRepository.insertIfAbsent(name, owner, now.plus(ttl));
+        boolean acquired = jobLeaseRepository.tryAcquire(name, owner, now, now.plus(ttl)) == 1;
+        if (acquired && held.add(name)) {
+            logger.info("Acquired job lease {} as {}", name, owner);
+        } else if (!acquired && held.remove(name)) {
+            logger.info("Lost job lease {}", name);
+        }
+        return acquired;
+    }
+
+    @Override
+    public void release(String name) {
+        if (held.remove(name)) {
+            jobLeaseRepository.release(name, owner, LocalDateTime.now());
+        }
+    }
+
+    // Lets another node take over right away instead of waiting for the TTL
+    @PreDestroy
+    public void releaseAll() {
+        for (String name : Set.copyOf(held)) {
+            try {
+                release(name);
+            } catch (Exception e) {
+                logger.warn("Could not release job lease {}", name, e);
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.payload.response.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Opaque continuation tokens for (deadline, id) keyset pagination
+final class KeysetCursor {
+
+    // Stands in for a missing deadline so the key is never null; those rows come first, where MySQL sorts NULLs.
+    // The page queries coalesce to the same value (TaskRepository.PAGE_KEY, ProgressRepository.PAGE_KEY)
+    static final LocalDateTime NO_DEADLINE = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private KeysetCursor() {
+    }
+
+    // Without a token, the position before every row
+    static Position decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return new Position(NO_DEADLINE, 0L);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String deadline = raw.substring(0, separator);
+            return new Position(deadline.isEmpty() ? NO_DEADLINE : LocalDateTime.parse(deadline),
+                Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    // Rows are fetched one past the page size, so a next cursor is only handed out when another row follows
+    static <T, R> CursorPage<R> toPage(List<T> rows, int size, Function<T, LocalDateTime> deadline,
+                                       Function<T, Long> id, Function<T, R> mapper) {
+        List<T> page = rows.size() > size ? rows.subList(0, size) : rows;
+        String next = null;
+        if (rows.size() > size) {
+            T last = page.get(page.size() - 1);
+            LocalDateTime lastDeadline = deadline.apply(last);
+            String raw = (lastDeadline != null ? lastDeadline.toString() : "") + "|" + id.apply(last);
+            next = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        return new CursorPage<>(page.stream().map(mapper).toList(), next);
+    }
+
+    record Position(LocalDateTime deadline, Long id) {
+    }
+}
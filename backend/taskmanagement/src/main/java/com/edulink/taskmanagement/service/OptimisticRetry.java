@@ -0,0 +1,59 @@
+package com.edulink.taskmanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Runs a read-modify-write in its own transaction and replays it when a @Version check fails at flush.
+// Inside a caller's transaction there is nothing to replay, so the work just joins it.
+@Component
+public class OptimisticRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${edulink.concurrency.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${edulink.concurrency.retry-backoff:PT0.02S}")
+    private Duration backoff;
+
+    public <T> T execute(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                logger.debug("Version conflict on attempt {} of {}, retrying", attempt, maxAttempts);
+                pause(attempt);
+            }
+        }
+    }
+
+    // Linear backoff with jitter, so writers that collided don't collide again in lockstep
+    private void pause(int attempt) {
+        long millis = backoff.toMillis() * attempt;
+        try {
+            Thread.sleep(millis + ThreadLocalRandom.current().nextLong(millis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying", e);
+        }
+    }
+}
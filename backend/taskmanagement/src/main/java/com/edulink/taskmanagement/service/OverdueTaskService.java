@@ -0,0 +1,8 @@
+package com.edulink.taskmanagement.service;
+
+import java.time.LocalDateTime;
+
+public interface OverdueTaskService {
+    void schedule(Long taskId, LocalDateTime deadline);
+    int sweep();
+}
@@ -0,0 +1,133 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.repository.TaskRepository;
+import com.edulink.taskmanagement.repository.projection.TaskDeadline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+public class OverdueTaskServiceImpl implements OverdueTaskService {
+
+    static final String LEASE_NAME = "overdue-sweeper";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${edulink.overdue.horizon:PT1H}")
+    private Duration horizon;
+
+    @Value("${edulink.overdue.refill-interval:PT1M}")
+    private Duration refillInterval;
+
+    @Value("${edulink.overdue.lease-ttl:PT30S}")
+    private Duration leaseTtl;
+
+    @Value("${edulink.overdue.batch-size:500}")
+    private int batchSize;
+
+    // Pending deadlines within the horizon, earliest first; only the lease holder keeps it populated
+    private final PriorityQueue<QueuedDeadline> queue = new PriorityQueue<>();
+    private volatile boolean leader;
+    private LocalDateTime nextRefill = LocalDateTime.MIN;
+
+    @Override
+    public void schedule(Long taskId, LocalDateTime deadline) {
+        // Other nodes' tasks reach the leader on its next refill
+        if (!leader || taskId == null || deadline == null || deadline.isAfter(LocalDateTime.now().plus(horizon))) {
+            return;
+        }
+        synchronized (queue) {
+            queue.add(new QueuedDeadline(deadline, taskId));
+        }
+    }
+
+    @Override
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!jobLeaseService.tryAcquire(LEASE_NAME, leaseTtl)) {
+            if (leader) {
+                leader = false;
+                synchronized (queue) {
+                    queue.clear();
+                }
+            }
+            return 0;
+        }
+
+        int marked = 0;
+        // Rebuild on startup and takeover, then periodically to pick up edits made on other nodes
+        if (!leader || !now.isBefore(nextRefill)) {
+            leader = true;
+            marked += markAllDue(now);
+            refill(now);
+            nextRefill = now.plus(refillInterval);
+        }
+
+        List<Long> due = pollDue(now);
+        for (int i = 0; i < due.size(); i += batchSize) {
+            marked += markOverdue(due.subList(i, Math.min(i + batchSize, due.size())), now);
+        }
+        return marked;
+    }
+
+    // Catch-up for deadlines that passed while no node held the lease
+    private int markAllDue(LocalDateTime now) {
+        int marked = 0;
+        List<Long> ids;
+        do {
+            ids = taskRepository.findPendingIdsDueBy(now, PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                marked += markOverdue(ids, now);
+            }
+        } while (ids.size() == batchSize);
+        return marked;
+    }
+
+    private int markOverdue(List<Long> ids, LocalDateTime now) {
+        int marked = taskRepository.markOverdue(ids, now);
+        if (marked > 0) {
+            dataVersionService.bumpForTasks(ids);
+        }
+        return marked;
+    }
+
+    private void refill(LocalDateTime now) {
+        List<TaskDeadline> upcoming = taskRepository.findPendingDeadlinesBetween(now, now.plus(horizon));
+        synchronized (queue) {
+            queue.clear();
+            for (TaskDeadline task : upcoming) {
+                queue.add(new QueuedDeadline(task.getDeadline(), task.getId()));
+            }
+        }
+    }
+
+    private List<Long> pollDue(LocalDateTime now) {
+        Set<Long> due = new LinkedHashSet<>();
+        synchronized (queue) {
+            while (!queue.isEmpty() && !queue.peek().deadline().isAfter(now)) {
+                due.add(queue.poll().taskId());
+            }
+        }
+        return new ArrayList<>(due);
+    }
+
+    private record QueuedDeadline(LocalDateTime deadline, Long taskId) implements Comparable<QueuedDeadline> {
+        @Override
+        public int compareTo(QueuedDeadline other) {
+            int byDeadline = deadline.compareTo(other.deadline);
+            return byDeadline != 0 ? byDeadline : taskId.compareTo(other.taskId);
+        }
+    }
+}
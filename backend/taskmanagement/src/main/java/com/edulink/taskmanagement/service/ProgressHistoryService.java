@@ -0,0 +1,12 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.ProgressHistory;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProgressHistoryService {
+    void append(Collection<ProgressHistory> entries);
+    List<ProgressHistory> getHistory(Long progressId);
+    int compact();
+}
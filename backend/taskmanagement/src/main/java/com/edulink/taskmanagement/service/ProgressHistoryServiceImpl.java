@@ -0,0 +1,80 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.ProgressHistory;
+import com.edulink.taskmanagement.repository.ProgressHistoryRepository;
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class ProgressHistoryServiceImpl implements ProgressHistoryService {
+
+    @Autowired
+    private ProgressHistoryRepository progressHistoryRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${edulink.progress.history-daily-after-days:7}")
+    private int dailyAfterDays;
+
+    @Value("${edulink.progress.history-compaction-batch-size:1000}")
+    private int compactionBatchSize;
+
+    @Override
+    @Transactional
+    public void append(Collection<ProgressHistory> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batch = entries.stream()
+            .map(entry -> new MapSqlParameterSource()
+                .addValue("progressId", entry.getProgressId())
+                .addValue("taskId", entry.getTaskId())
+                .addValue("studentId", entry.getStudentId())
+                .addValue("percentageComplete", entry.getPercentageComplete())
+                .addValue("comment", entry.getComment())
+                .addValue("submissionUrl", entry.getSubmissionUrl())
+                .addValue("submittedAt", entry.getSubmittedAt())
+                .addValue("submittedOn", entry.getSubmittedOn()))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ProgressHistoryRepository.APPEND, batch);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProgressHistory> getHistory(Long progressId) {
+        if (!progressRepository.existsById(progressId)) {
+            throw new RuntimeException("Progress not found");
+        }
+        return progressHistoryRepository.findByProgressId(progressId);
+    }
+
+    // Each batch commits on its own, so a long backlog doesn't hold one huge delete open
+    @Override
+    public int compact() {
+        LocalDate cutoff = LocalDate.now().minusDays(dailyAfterDays);
+        int compacted = 0;
+        List<Long> batch;
+        do {
+            batch = progressHistoryRepository.findCompactableIds(cutoff, PageRequest.of(0, compactionBatchSize));
+            if (!batch.isEmpty()) {
+                progressHistoryRepository.deleteAllByIdInBatch(batch);
+                compacted += batch.size();
+            }
+        } while (batch.size() == compactionBatchSize);
+        return compacted;
+    }
+}
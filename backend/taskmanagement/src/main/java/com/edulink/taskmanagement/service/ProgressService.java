@@ -3,14 +3,24 @@ package com.edulink.taskmanagement.service;
 import com.edulink.taskmanagement.model.Progress;
 import com.edulink.taskmanagement.payload.request.ProgressRequest;
 import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.response.BatchGradeResponse;
+import com.edulink.taskmanagement.payload.response.CursorPage;
+import com.edulink.taskmanagement.payload.response.ProgressResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface ProgressService {
     Progress submitProgress(ProgressSubmissionRequest submissionRequest, Long studentId);
     Progress gradeSubmission(Long progressId, ProgressRequest progressRequest, Long tutorId);
-    List<Progress> getProgressByTaskId(Long taskId);
-    List<Progress> getProgressByStudent(Long studentId);
+    BatchGradeResponse gradeSubmissions(Long taskId, Map<Long, ProgressRequest> grades, Long tutorId);
+    List<ProgressResponse> getProgressByTaskId(Long taskId);
+    List<ProgressResponse> getProgressByStudent(Long studentId);
+    CursorPage<ProgressResponse> getProgressByTaskIdPage(Long taskId, String cursor, int size);
+    CursorPage<ProgressResponse> getProgressByStudentPage(Long studentId, String cursor, int size);
     Map<String, Object> getTaskStatistics(Long taskId);
+    // Folds pre-upgrade rows into one current row per (task, student); returns tutors whose rollups changed
+    Set<Long> collapseLegacyRows(Collection<Long> taskIds);
 }
\ No newline at end of file
@@ -1,20 +1,29 @@
 package com.edulink.taskmanagement.service;
 
 import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.ProgressHistory;
 import com.edulink.taskmanagement.model.Task;
 import com.edulink.taskmanagement.model.User;
 import com.edulink.taskmanagement.payload.request.ProgressRequest;
 import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.response.BatchGradeResponse;
+import com.edulink.taskmanagement.payload.response.CursorPage;
+import com.edulink.taskmanagement.payload.response.GradeResult;
+import com.edulink.taskmanagement.payload.response.ProgressResponse;
+import com.edulink.taskmanagement.repository.ProgressHistoryRepository;
 import com.edulink.taskmanagement.repository.ProgressRepository;
 import com.edulink.taskmanagement.repository.TaskRepository;
 import com.edulink.taskmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 
 @Service
 public class ProgressServiceImpl implements ProgressService {
@@ -28,7 +37,35 @@ public class ProgressServiceImpl implements ProgressService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProgressHistoryRepository progressHistoryRepository;
+
+    @Autowired
+    private ProgressHistoryService progressHistoryService;
+
+    @Autowired
+    private StudentSummaryService studentSummaryService;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${edulink.grading.max-batch-size:1000}")
+    private int maxBatchSize;
+
     @Override
+    @Transactional
     public Progress submitProgress(ProgressSubmissionRequest submissionRequest, Long studentId) {
         Task task = taskRepository.findById(submissionRequest.getTaskId())
                 .orElseThrow(() -> new RuntimeException("Task not found"));
@@ -43,9 +80,16 @@ public class ProgressServiceImpl implements ProgressService {
             throw new RuntimeException("Cannot submit past deadline");
         }
 
-        Progress progress = new Progress();
-        progress.setTask(task);
-        progress.setStudent(student);
+        // One conditional UPDATE, taken before the progress insert and any summary lock: concurrent 100%
+        // submissions queue on the task row and only the first one refreshes every assignee's summary
+        boolean taskCompleted = submissionRequest.getPercentageComplete() == 100
+                && taskRepository.markCompleted(List.of(task.getId())) == 1;
+
+        progressRepository.insertIfAbsent(task.getId(), student.getId());
+        Progress progress = progressRepository.findForUpdate(task.getId(), student.getId())
+                .orElseThrow(() -> new RuntimeException("Progress not found"));
+        // Only the placeholder insertIfAbsent just created has never been submitted
+        Integer previousPercentage = progress.getSubmittedAt() != null ? progress.getPercentageComplete() : null;
         progress.setPercentageComplete(submissionRequest.getPercentageComplete());
         progress.setComment(submissionRequest.getComment());
         progress.setSubmissionUrl(submissionRequest.getSubmissionUrl());
@@ -53,16 +97,28 @@ public class ProgressServiceImpl implements ProgressService {
 
         Progress savedProgress = progressRepository.save(progress);
 
-        if (submissionRequest.getPercentageComplete() == 100) {
-            task.setStatus("COMPLETED");
-            taskRepository.save(task);
+        progressHistoryService.append(List.of(ProgressHistory.from(savedProgress)));
+        studentSummaryService.recordSubmission(savedProgress, previousPercentage, taskCompleted);
+        if (previousPercentage == null) {
+            analyticsRollupService.recordSubmission(savedProgress);
         }
-
+        analyticsCache.invalidate(List.of(task.getCreatedBy().getId()), List.of(task.getId()));
+        // A completed task changes status in every assignee's list; otherwise only the tutor's statistics move
+        Set<Long> affectedUsers = new HashSet<>(Set.of(task.getCreatedBy().getId()));
+        if (taskCompleted) {
+            task.getAssignees().forEach(assignee -> affectedUsers.add(assignee.getId()));
+        }
+        dataVersionService.bump(affectedUsers);
+        meterRegistry.counter("edulink.submissions", "path", "direct").increment();
         return savedProgress;
     }
 
     @Override
     public Progress gradeSubmission(Long progressId, ProgressRequest progressRequest, Long tutorId) {
+        return optimisticRetry.execute(() -> grade(progressId, progressRequest, tutorId));
+    }
+
+    private Progress grade(Long progressId, ProgressRequest progressRequest, Long tutorId) {
         Progress progress = progressRepository.findById(progressId)
                 .orElseThrow(() -> new RuntimeException("Progress not found"));
 
@@ -73,27 +129,159 @@ public class ProgressServiceImpl implements ProgressService {
             throw new RuntimeException("Only the task creator can grade");
         }
 
+        Integer previousScore = progress.getScore();
         progress.setScore(progressRequest.getScore());
         progress.setComment(progressRequest.getFeedback() != null ? progressRequest.getFeedback() : progress.getComment());
-        return progressRepository.save(progress);
+        Progress gradedProgress = progressRepository.save(progress);
+
+        studentSummaryService.recordGrade(gradedProgress, previousScore);
+        analyticsRollupService.recordGrade(gradedProgress, previousScore);
+        analyticsCache.invalidate(List.of(tutorId), List.of(gradedProgress.getTask().getId()));
+        dataVersionService.bump(List.of(tutorId));
+        return gradedProgress;
     }
 
     @Override
-    public List<Progress> getProgressByTaskId(Long taskId) {
+    @Transactional
+    public BatchGradeResponse gradeSubmissions(Long taskId, Map<Long, ProgressRequest> grades, Long tutorId) {
+        if (grades == null || grades.isEmpty() || grades.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch must contain between 1 and " + maxBatchSize + " grades");
+        }
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
-        return progressRepository.findByTask(task);
+        if (!task.getCreatedBy().getId().equals(tutorId)) {
+            throw new RuntimeException("Only the task creator can grade");
+        }
+
+        Map<Long, Progress> submissions = new HashMap<>();
+        progressRepository.findForGrading(taskId, grades.keySet()).forEach(progress -> submissions.put(progress.getId(), progress));
+
+        List<GradeResult> results = new ArrayList<>();
+        List<Progress> graded = new ArrayList<>();
+        Map<Long, Integer> previousScores = new HashMap<>();
+        grades.forEach((progressId, grade) -> {
+            Progress progress = submissions.get(progressId);
+            String error = progress == null ? "Submission not found for this task" : validationError(grade);
+            if (error != null) {
+                results.add(GradeResult.failed(progressId, error));
+                return;
+            }
+            previousScores.put(progressId, progress.getScore());
+            progress.setScore(grade.getScore());
+            progress.setComment(grade.getFeedback() != null ? grade.getFeedback() : progress.getComment());
+            graded.add(progress);
+            results.add(GradeResult.graded(progressId, progress.getScore()));
+        });
+
+        // The dirty submissions go out as one JDBC batch of UPDATEs when the transaction flushes
+        if (!graded.isEmpty()) {
+            studentSummaryService.recordGrades(graded, previousScores);
+            analyticsRollupService.recordGrades(graded, previousScores);
+            analyticsCache.invalidate(List.of(tutorId), List.of(taskId));
+            dataVersionService.bump(List.of(tutorId));
+        }
+        return new BatchGradeResponse(taskId, graded.size(), results.size() - graded.size(), results);
+    }
+
+    // Same bounds as the @Min/@Max on ProgressRequest, checked per item so one bad score doesn't fail the batch
+    private String validationError(ProgressRequest grade) {
+        if (grade == null) {
+            return "Missing grade";
+        }
+        if (grade.getScore() != null && (grade.getScore() < 0 || grade.getScore() > 100)) {
+            return "Score must be between 0 and 100";
+        }
+        return null;
     }
 
     @Override
-    public List<Progress> getProgressByStudent(Long studentId) {
-        User student = userRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found"));
-        return progressRepository.findByStudent(student);
+    @Transactional
+    public Set<Long> collapseLegacyRows(Collection<Long> taskIds) {
+        Set<Long> recorded = new HashSet<>(progressHistoryRepository.findProgressIdsByTaskIds(taskIds));
+        Map<List<Long>, List<Progress>> rowsByPair = new LinkedHashMap<>();
+        for (Progress progress : progressRepository.findAllByTaskIds(taskIds)) {
+            rowsByPair.computeIfAbsent(List.of(progress.getTask().getId(), progress.getStudent().getId()), pair -> new ArrayList<>())
+                .add(progress);
+        }
+
+        List<ProgressHistory> history = new ArrayList<>();
+        List<Progress> superseded = new ArrayList<>();
+        Set<Long> students = new HashSet<>();
+        Set<Long> tutors = new HashSet<>();
+        rowsByPair.values().forEach(rows -> {
+            // Rows come in id order, so the last one is the latest submission and becomes the current state
+            Progress latest = rows.get(rows.size() - 1);
+            for (Progress row : rows) {
+                if (row != latest || !recorded.contains(latest.getId())) {
+                    ProgressHistory entry = ProgressHistory.from(row);
+                    entry.setProgressId(latest.getId());
+                    history.add(entry);
+                }
+            }
+            if (rows.size() == 1) {
+                return;
+            }
+            // A grade given to an earlier submission stays with the student's current one
+            for (int i = rows.size() - 1; latest.getScore() == null && i >= 0; i--) {
+                latest.setScore(rows.get(i).getScore());
+            }
+            superseded.addAll(rows.subList(0, rows.size() - 1));
+            students.add(latest.getStudent().getId());
+            tutors.add(latest.getTask().getCreatedBy().getId());
+        });
+
+        progressHistoryService.append(history);
+        progressRepository.deleteAllByIdInBatch(superseded.stream().map(Progress::getId).toList());
+        studentSummaryService.rebuild(students);
+        analyticsCache.invalidate(tutors, taskIds);
+        dataVersionService.bump(tutors);
+        return tutors;
+    }
+
+    @Override
+    public List<ProgressResponse> getProgressByTaskId(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new RuntimeException("Task not found");
+        }
+        return progressRepository.findResponsesByTaskId(taskId);
     }
 
     @Override
+    public List<ProgressResponse> getProgressByStudent(Long studentId) {
+        if (!userRepository.existsById(studentId)) {
+            throw new RuntimeException("Student not found");
+        }
+        return progressRepository.findResponsesByStudentId(studentId);
+    }
+
+    @Override
+    public CursorPage<ProgressResponse> getProgressByTaskIdPage(Long taskId, String cursor, int size) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new RuntimeException("Task not found");
+        }
+        KeysetCursor.Position after = KeysetCursor.decode(cursor);
+        return KeysetCursor.toPage(progressRepository.findResponsePageByTaskIdAfter(taskId, after.deadline(), after.id(), Limit.of(size + 1)),
+            size, ProgressResponse::getTaskDeadline, ProgressResponse::getId, Function.identity());
+    }
+
+    @Override
+    public CursorPage<ProgressResponse> getProgressByStudentPage(Long studentId, String cursor, int size) {
+        if (!userRepository.existsById(studentId)) {
+            throw new RuntimeException("Student not found");
+        }
+        KeysetCursor.Position after = KeysetCursor.decode(cursor);
+        return KeysetCursor.toPage(progressRepository.findResponsePageByStudentIdAfter(studentId, after.deadline(), after.id(), Limit.of(size + 1)),
+            size, ProgressResponse::getTaskDeadline, ProgressResponse::getId, Function.identity());
+    }
+
+    // The assignee count comes from the lazy collection, so a computed answer needs the session
+    @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> getTaskStatistics(Long taskId) {
+        return analyticsCache.get(AnalyticsKey.forTask("taskStatistics", taskId), () -> computeTaskStatistics(taskId));
+    }
+
+    private Map<String, Object> computeTaskStatistics(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
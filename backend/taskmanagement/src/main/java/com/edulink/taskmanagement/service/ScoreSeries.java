@@ -0,0 +1,15 @@
+package com.edulink.taskmanagement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+// Both chart series of the statistics page, built from one read of the score rollups
+@Data
+@AllArgsConstructor
+public class ScoreSeries {
+    private List<Double> overall;
+    private Map<String, List<Double>> bySubject;
+}
@@ -0,0 +1,9 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.payload.response.CacheStatisticsResponse;
+
+import java.util.List;
+
+public interface SecondLevelCacheService {
+    List<CacheStatisticsResponse> getStatistics();
+}
@@ -0,0 +1,34 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.config.SecondLevelCacheConfig;
+import com.edulink.taskmanagement.payload.response.CacheStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class SecondLevelCacheServiceImpl implements SecondLevelCacheService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Counters run from startup and stay at zero while hibernate.generate_statistics is off
+    @Override
+    public List<CacheStatisticsResponse> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return SecondLevelCacheConfig.REGIONS.stream()
+            .map(region -> {
+                CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                long hits = regionStatistics.getHitCount();
+                long misses = regionStatistics.getMissCount();
+                return new CacheStatisticsResponse(region, hits, misses, regionStatistics.getPutCount(),
+                    hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+            })
+            .toList();
+    }
+}
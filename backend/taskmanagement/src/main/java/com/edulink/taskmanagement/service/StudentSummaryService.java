@@ -0,0 +1,17 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.Task;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface StudentSummaryService {
+    // previousPercentage is null when the submission created the student's progress row
+    void recordSubmission(Progress progress, Integer previousPercentage, boolean taskCompleted);
+    void recordSubmissions(Collection<Progress> submissions, Map<Long, Integer> previousPercentages, Collection<Task> completedTasks);
+    void recordGrade(Progress progress, Integer previousScore);
+    void recordGrades(Collection<Progress> graded, Map<Long, Integer> previousScores);
+    void refreshAssignments(Collection<Long> studentIds);
+    int rebuild(Collection<Long> studentIds);
+}
@@ -0,0 +1,276 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.StudentSummary;
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import com.edulink.taskmanagement.repository.StudentSummaryRepository;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import com.edulink.taskmanagement.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+public class StudentSummaryServiceImpl implements StudentSummaryService {
+    @Autowired
+    private StudentSummaryRepository studentSummaryRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void recordSubmission(Progress progress, Integer previousPercentage, boolean taskCompleted) {
+        Long studentId = progress.getStudent().getId();
+        Optional<StudentSummary> existing = studentSummaryRepository.findForUpdate(studentId);
+        if (existing.isEmpty()) {
+            // No summary yet: the rebuild already sees the submission we were called for
+            rebuild(Collections.singletonList(studentId));
+        } else {
+            StudentSummary summary = existing.get();
+            summary.setProgressSum(summary.getProgressSum() + progress.getPercentageComplete()
+                - (previousPercentage != null ? previousPercentage : 0));
+            summary.setProgressCount(summary.getProgressCount() + (previousPercentage == null ? 1 : 0));
+            summary.setLastActivity(progress.getSubmittedAt());
+            derive(summary);
+            publish(summary, progress.getStudent());
+        }
+
+        if (taskCompleted) {
+            // The task status is shared, so every assignee's status may have moved
+            refreshAssignments(progress.getTask().getAssignees().stream().map(User::getId).toList());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordSubmissions(Collection<Progress> submissions, Map<Long, Integer> previousPercentages, Collection<Task> completedTasks) {
+        // Net change per student, so each summary is locked and published once per group commit
+        Map<Long, long[]> deltas = new TreeMap<>();
+        Map<Long, LocalDateTime> lastActivity = new HashMap<>();
+        Map<Long, User> students = new HashMap<>();
+        for (Progress progress : submissions) {
+            Long studentId = progress.getStudent().getId();
+            Integer previousPercentage = previousPercentages.get(progress.getId());
+            long[] delta = deltas.computeIfAbsent(studentId, id -> new long[2]);
+            delta[0] += progress.getPercentageComplete() - (previousPercentage != null ? previousPercentage : 0);
+            delta[1] += previousPercentage == null ? 1 : 0;
+            lastActivity.merge(studentId, progress.getSubmittedAt(), (a, b) -> a.isAfter(b) ? a : b);
+            students.put(studentId, progress.getStudent());
+        }
+
+        Map<Long, StudentSummary> summaries = new HashMap<>();
+        studentSummaryRepository.findAllForUpdate(deltas.keySet())
+            .forEach(summary -> summaries.put(summary.getStudentId(), summary));
+        List<Long> missing = new ArrayList<>();
+        deltas.forEach((studentId, delta) -> {
+            StudentSummary summary = summaries.get(studentId);
+            if (summary == null) {
+                missing.add(studentId);
+                return;
+            }
+            summary.setProgressSum(summary.getProgressSum() + delta[0]);
+            summary.setProgressCount(summary.getProgressCount() + delta[1]);
+            LocalDateTime activity = lastActivity.get(studentId);
+            if (summary.getLastActivity() == null || activity.isAfter(summary.getLastActivity())) {
+                summary.setLastActivity(activity);
+            }
+            derive(summary);
+            publish(summary, students.get(studentId));
+        });
+        rebuild(missing);
+
+        if (!completedTasks.isEmpty()) {
+            Set<Long> assignees = new HashSet<>();
+            completedTasks.forEach(task -> task.getAssignees().forEach(student -> assignees.add(student.getId())));
+            refreshAssignments(assignees);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordGrade(Progress progress, Integer previousScore) {
+        Long studentId = progress.getStudent().getId();
+        Optional<StudentSummary> existing = studentSummaryRepository.findForUpdate(studentId);
+        if (existing.isEmpty()) {
+            rebuild(Collections.singletonList(studentId));
+            return;
+        }
+        StudentSummary summary = existing.get();
+        Integer score = progress.getScore();
+        summary.setScoreSum(summary.getScoreSum() - (previousScore != null ? previousScore : 0) + (score != null ? score : 0));
+        summary.setScoreCount(summary.getScoreCount() - (previousScore != null ? 1 : 0) + (score != null ? 1 : 0));
+        derive(summary);
+        publish(summary, progress.getStudent());
+    }
+
+    @Override
+    @Transactional
+    public void recordGrades(Collection<Progress> graded, Map<Long, Integer> previousScores) {
+        // Net change per student, so each summary is locked and published once
+        Map<Long, long[]> deltas = new TreeMap<>();
+        Map<Long, User> students = new HashMap<>();
+        for (Progress progress : graded) {
+            Long studentId = progress.getStudent().getId();
+            Integer score = progress.getScore();
+            Integer previousScore = previousScores.get(progress.getId());
+            long[] delta = deltas.computeIfAbsent(studentId, id -> new long[2]);
+            delta[0] += (score != null ? score : 0) - (previousScore != null ? previousScore : 0);
+            delta[1] += (score != null ? 1 : 0) - (previousScore != null ? 1 : 0);
+            students.put(studentId, progress.getStudent());
+        }
+
+        Map<Long, StudentSummary> summaries = new HashMap<>();
+        studentSummaryRepository.findAllForUpdate(deltas.keySet())
+            .forEach(summary -> summaries.put(summary.getStudentId(), summary));
+        List<Long> missing = new ArrayList<>();
+        deltas.forEach((studentId, delta) -> {
+            StudentSummary summary = summaries.get(studentId);
+            if (summary == null) {
+                missing.add(studentId);
+                return;
+            }
+            summary.setScoreSum(summary.getScoreSum() + delta[0]);
+            summary.setScoreCount(summary.getScoreCount() + delta[1]);
+            derive(summary);
+            publish(summary, students.get(studentId));
+        });
+        rebuild(missing);
+    }
+
+    @Override
+    @Transactional
+    public void refreshAssignments(Collection<Long> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            return;
+        }
+        Map<Long, StudentSummary> summaries = loadOrCreate(studentIds);
+        summaries.values().forEach(summary -> {
+            summary.setAssignedTasks(0);
+            summary.setCompletedTasks(0);
+            summary.setInProgressTasks(0);
+        });
+        for (Object[] row : taskRepository.countTaskStatusesByAssignee(summaries.keySet())) {
+            StudentSummary summary = summaries.get((Long) row[0]);
+            summary.setAssignedTasks(((Number) row[1]).intValue());
+            summary.setCompletedTasks(((Number) row[2]).intValue());
+            summary.setInProgressTasks(((Number) row[3]).intValue());
+        }
+        saveAndPublish(summaries);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(Collection<Long> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            return 0;
+        }
+        Map<Long, StudentSummary> summaries = loadOrCreate(studentIds);
+        summaries.values().forEach(summary -> {
+            summary.setProgressSum(0);
+            summary.setProgressCount(0);
+            summary.setScoreSum(0);
+            summary.setScoreCount(0);
+            summary.setAssignedTasks(0);
+            summary.setCompletedTasks(0);
+            summary.setInProgressTasks(0);
+        });
+        for (Object[] row : progressRepository.summarizeByStudent(summaries.keySet())) {
+            StudentSummary summary = summaries.get((Long) row[0]);
+            summary.setProgressSum(((Number) row[1]).longValue());
+            summary.setProgressCount(((Number) row[2]).longValue());
+            summary.setScoreSum(((Number) row[3]).longValue());
+            summary.setScoreCount(((Number) row[4]).longValue());
+            if (row[5] != null) {
+                summary.setLastActivity((LocalDateTime) row[5]);
+            }
+        }
+        for (Object[] row : taskRepository.countTaskStatusesByAssignee(summaries.keySet())) {
+            StudentSummary summary = summaries.get((Long) row[0]);
+            summary.setAssignedTasks(((Number) row[1]).intValue());
+            summary.setCompletedTasks(((Number) row[2]).intValue());
+            summary.setInProgressTasks(((Number) row[3]).intValue());
+        }
+        saveAndPublish(summaries);
+        return summaries.size();
+    }
+
+    // Missing rows are created first and every row is then locked in ascending id order, as recordGrades does, so a
+    // concurrent submission or grade can't commit between our read and our write and have its deltas overwritten
+    private Map<Long, StudentSummary> loadOrCreate(Collection<Long> studentIds) {
+        Set<Long> ids = new TreeSet<>(studentIds);
+        MapSqlParameterSource[] batch = ids.stream()
+            .map(studentId -> new MapSqlParameterSource("studentId", studentId))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(StudentSummaryRepository.INSERT_IF_ABSENT, batch);
+        Map<Long, StudentSummary> summaries = new HashMap<>();
+        studentSummaryRepository.findAllForUpdate(ids)
+            .forEach(summary -> summaries.put(summary.getStudentId(), summary));
+        return summaries;
+    }
+
+    private void saveAndPublish(Map<Long, StudentSummary> summaries) {
+        summaries.values().forEach(this::derive);
+        studentSummaryRepository.saveAll(summaries.values());
+        for (User student : userRepository.findAllById(summaries.keySet())) {
+            publish(summaries.get(student.getId()), student);
+        }
+    }
+
+    private void derive(StudentSummary summary) {
+        double completion = summary.getProgressCount() == 0 ? 0 : (double) summary.getProgressSum() / summary.getProgressCount();
+        summary.setCompletionAverage(completion);
+        summary.setAverageScore(summary.getScoreCount() == 0 ? null : (double) summary.getScoreSum() / summary.getScoreCount());
+        summary.setGrade(summary.getAssignedTasks() == 0 ? "N/A" : calculateGrade(completion));
+        summary.setStatus(calculateStatus(summary));
+    }
+
+    // The users row carries the published grade/status so role listings stay a plain read
+    private void publish(StudentSummary summary, User student) {
+        student.setGrade(summary.getGrade());
+        student.setStatus(summary.getStatus());
+        if (summary.getLastActivity() != null) {
+            student.setLastActive(summary.getLastActivity());
+        }
+        userRepository.save(student);
+        userDirectoryService.evict(student.getId());
+    }
+
+    private String calculateGrade(double percentage) {
+        if (percentage >= 90) return "A";
+        if (percentage >= 80) return "B";
+        if (percentage >= 70) return "C";
+        if (percentage >= 60) return "D";
+        return "F";
+    }
+
+    private String calculateStatus(StudentSummary summary) {
+        if (summary.getAssignedTasks() == 0) return "PENDING";
+        if (summary.getCompletedTasks() == summary.getAssignedTasks()) {
+            return "COMPLETED";
+        } else if (summary.getInProgressTasks() > 0) {
+            return "IN_PROGRESS";
+        } else {
+            return "PENDING";
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.response.ProgressResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface SubmissionBatchService {
+    // With an idempotency key, a retried submission completes with the response of the one already written
+    CompletableFuture<ProgressResponse> submit(ProgressSubmissionRequest submissionRequest, Long studentId, String idempotencyKey);
+}
@@ -0,0 +1,323 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.ProgressHistory;
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.response.ProgressResponse;
+import com.edulink.taskmanagement.repository.ProgressRepository;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Group commit for progress submissions: requests are validated against cached assignments and queued, and one
+// writer thread saves whatever has queued up in a single transaction. A future completes only after its commit.
+@Service
+public class SubmissionBatchServiceImpl implements SubmissionBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionBatchServiceImpl.class);
+
+    @Autowired
+    private TaskAssignmentCache taskAssignmentCache;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private ProgressHistoryService progressHistoryService;
+
+    @Autowired
+    private StudentSummaryService studentSummaryService;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${edulink.submissions.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${edulink.submissions.batch-size:200}")
+    private int batchSize;
+
+    @Value("${edulink.submissions.max-batch-wait:PT0.005S}")
+    private Duration maxBatchWait;
+
+    private BlockingQueue<PendingSubmission> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::drain, "submission-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Stops accepting and lets the writer commit everything already acknowledged as queued
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        List<PendingSubmission> stranded = new ArrayList<>();
+        queue.drainTo(stranded);
+        stranded.forEach(pending -> pending.result.completeExceptionally(new IllegalStateException("Shutting down")));
+    }
+
+    @Override
+    public CompletableFuture<ProgressResponse> submit(ProgressSubmissionRequest submissionRequest, Long studentId, String idempotencyKey) {
+        LocalDateTime acceptedAt = LocalDateTime.now();
+        if (submissionRequest.getTaskId() == null || submissionRequest.getPercentageComplete() == null
+                || submissionRequest.getPercentageComplete() < 0 || submissionRequest.getPercentageComplete() > 100) {
+            throw new IllegalArgumentException("A submission needs a taskId and a percentageComplete between 0 and 100");
+        }
+        TaskAssignments assignments = taskAssignmentCache.get(submissionRequest.getTaskId());
+        if (!assignments.getAssigneeIds().contains(studentId)) {
+            throw new RuntimeException("Task not assigned to this student");
+        }
+        // Judged at acceptance, so a submission queued before the deadline counts even if it is written after it
+        if (assignments.getDeadline() != null && acceptedAt.isAfter(assignments.getDeadline())) {
+            throw new RuntimeException("Cannot submit past deadline");
+        }
+
+        String fingerprint = idempotencyKey != null ? idempotencyService.fingerprint(submissionRequest) : null;
+        PendingSubmission pending = new PendingSubmission(submissionRequest, studentId, acceptedAt,
+            idempotencyKey, fingerprint, new CompletableFuture<>());
+        if (!running) {
+            throw new IllegalStateException("Shutting down");
+        }
+        if (!queue.offer(pending)) {
+            throw new SubmissionQueueFullException(queueCapacity);
+        }
+        return pending.result;
+    }
+
+    private void drain() {
+        List<PendingSubmission> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSubmission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Give concurrent requests a moment to join the same commit
+                long waitUntil = System.nanoTime() + maxBatchWait.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = waitUntil - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingSubmission next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Submission writer failed", e);
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingSubmission> batch) {
+        try {
+            List<ProgressResponse> saved = transactionTemplate.execute(status -> write(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(saved.get(i));
+            }
+            meterRegistry.counter("edulink.submissions", "path", "buffered").increment(batch.size());
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            // Isolate the submission that broke the batch; the rest still commit
+            logger.warn("Group commit of {} submissions failed, retrying one by one", batch.size(), e);
+            for (PendingSubmission pending : batch) {
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    private List<ProgressResponse> write(List<PendingSubmission> batch) {
+        // Keys are claimed in this transaction; a key already answered replays its response and writes nothing
+        ProgressResponse[] responses = new ProgressResponse[batch.size()];
+        Map<String, Integer> claimed = new HashMap<>();
+        Map<Integer, Integer> repeats = new HashMap<>();
+        List<PendingSubmission> fresh = new ArrayList<>();
+        List<Integer> freshIndexes = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingSubmission pending = batch.get(i);
+            if (pending.idempotencyKey != null) {
+                String scope = scope(pending.studentId);
+                Integer first = claimed.get(scope + ":" + pending.idempotencyKey);
+                if (first != null) {
+                    // The same key twice in one batch: only the first is written
+                    if (!batch.get(first).fingerprint.equals(pending.fingerprint)) {
+                        throw new IdempotencyKeyReusedException(pending.idempotencyKey);
+                    }
+                    repeats.put(i, first);
+                    continue;
+                }
+                Optional<ProgressResponse> stored = idempotencyService.claim(scope, pending.idempotencyKey,
+                    pending.fingerprint, new TypeReference<ProgressResponse>() {});
+                if (stored.isPresent()) {
+                    responses[i] = stored.get();
+                    continue;
+                }
+                claimed.put(scope + ":" + pending.idempotencyKey, i);
+            }
+            fresh.add(pending);
+            freshIndexes.add(i);
+        }
+
+        List<Progress> saved = fresh.isEmpty() ? List.of() : apply(fresh);
+        for (int i = 0; i < saved.size(); i++) {
+            PendingSubmission pending = fresh.get(i);
+            ProgressResponse response = ProgressResponse.from(saved.get(i));
+            responses[freshIndexes.get(i)] = response;
+            if (pending.idempotencyKey != null) {
+                idempotencyService.complete(scope(pending.studentId), pending.idempotencyKey, response);
+            }
+        }
+        repeats.forEach((repeat, first) -> responses[repeat] = responses[first]);
+        return Arrays.asList(responses);
+    }
+
+    private static String scope(Long studentId) {
+        return "progress-submit:" + studentId;
+    }
+
+    private List<Progress> apply(List<PendingSubmission> batch) {
+        Set<Long> taskIds = new HashSet<>();
+        Set<Long> studentIds = new HashSet<>();
+        batch.forEach(pending -> {
+            taskIds.add(pending.request.getTaskId());
+            studentIds.add(pending.studentId);
+        });
+        Map<Long, Task> tasks = new HashMap<>();
+        taskRepository.findAllById(taskIds).forEach(task -> tasks.put(task.getId(), task));
+        Map<Long, User> students = new HashMap<>();
+        userRepository.findAllById(studentIds).forEach(student -> students.put(student.getId(), student));
+
+        Map<Long, Task> completed = new LinkedHashMap<>();
+        for (PendingSubmission pending : batch) {
+            Task task = tasks.get(pending.request.getTaskId());
+            if (task == null || !students.containsKey(pending.studentId)) {
+                throw new RuntimeException(task == null ? "Task not found" : "Student not found");
+            }
+            if (pending.request.getPercentageComplete() == 100 && !"COMPLETED".equals(task.getStatus())) {
+                completed.put(task.getId(), task);
+            }
+        }
+        if (!completed.isEmpty()) {
+            taskRepository.markCompleted(completed.keySet());
+        }
+
+        // Current-state rows for every (task, student) in the batch: created where missing, then locked in id order
+        MapSqlParameterSource[] pairs = batch.stream()
+            .map(pending -> new MapSqlParameterSource()
+                .addValue("taskId", pending.request.getTaskId())
+                .addValue("studentId", pending.studentId))
+            .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ProgressRepository.INSERT_IF_ABSENT, pairs);
+        Map<List<Long>, Progress> rows = new HashMap<>();
+        progressRepository.findAllForUpdate(taskIds, studentIds)
+            .forEach(progress -> rows.put(List.of(progress.getTask().getId(), progress.getStudent().getId()), progress));
+
+        // A student submitting twice in one batch leaves the later state, with both entries in the history
+        List<Progress> submissions = new ArrayList<>();
+        Map<Long, Progress> current = new LinkedHashMap<>();
+        Map<Long, Integer> previousPercentages = new HashMap<>();
+        List<ProgressHistory> history = new ArrayList<>();
+        for (PendingSubmission pending : batch) {
+            Progress progress = rows.get(List.of(pending.request.getTaskId(), pending.studentId));
+            if (!previousPercentages.containsKey(progress.getId())) {
+                previousPercentages.put(progress.getId(), progress.getSubmittedAt() != null ? progress.getPercentageComplete() : null);
+            }
+            progress.setPercentageComplete(pending.request.getPercentageComplete());
+            progress.setComment(pending.request.getComment());
+            progress.setSubmissionUrl(pending.request.getSubmissionUrl());
+            progress.setSubmittedAt(pending.acceptedAt);
+            submissions.add(progress);
+            current.put(progress.getId(), progress);
+            history.add(ProgressHistory.from(progress));
+        }
+
+        progressHistoryService.append(history);
+        studentSummaryService.recordSubmissions(current.values(), previousPercentages, completed.values());
+        analyticsRollupService.recordSubmissions(current.values().stream()
+            .filter(progress -> previousPercentages.get(progress.getId()) == null).toList());
+        List<Long> tutorIds = tasks.values().stream().map(task -> task.getCreatedBy().getId()).toList();
+        analyticsCache.invalidate(tutorIds, taskIds);
+        // One bump for the batch: tutors' statistics, plus every assignee of a task that just completed
+        Set<Long> affectedUsers = new HashSet<>(tutorIds);
+        completed.values().forEach(task -> task.getAssignees().forEach(assignee -> affectedUsers.add(assignee.getId())));
+        dataVersionService.bump(affectedUsers);
+        return submissions;
+    }
+
+    @AllArgsConstructor
+    private static class PendingSubmission {
+        private final ProgressSubmissionRequest request;
+        private final Long studentId;
+        private final LocalDateTime acceptedAt;
+        private final String idempotencyKey;
+        private final String fingerprint;
+        private final CompletableFuture<ProgressResponse> result;
+    }
+}
@@ -0,0 +1,8 @@
+package com.edulink.taskmanagement.service;
+
+// The group-commit queue has no room; the submission was not accepted and can be retried shortly
+public class SubmissionQueueFullException extends RuntimeException {
+    public SubmissionQueueFullException(int capacity) {
+        super("Submission queue is full (" + capacity + " pending)");
+    }
+}
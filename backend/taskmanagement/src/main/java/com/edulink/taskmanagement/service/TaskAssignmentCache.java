@@ -0,0 +1,6 @@
+package com.edulink.taskmanagement.service;
+
+public interface TaskAssignmentCache {
+    TaskAssignments get(Long taskId);
+    void evict(Long taskId);
+}
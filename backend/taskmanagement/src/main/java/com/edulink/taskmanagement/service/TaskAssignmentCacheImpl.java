@@ -0,0 +1,69 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+@Service
+public class TaskAssignmentCacheImpl implements TaskAssignmentCache {
+
+    private static final int LOAD_STRIPES = 64;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final Map<Long, TaskAssignments> index;
+    private final long ttlNanos;
+    private final Object[] loadLocks = new Object[LOAD_STRIPES];
+
+    public TaskAssignmentCacheImpl(@Value("${edulink.submissions.assignment-cache-max-entries:1000}") int maxEntries,
+                                   @Value("${edulink.submissions.assignment-cache-ttl:PT30S}") Duration ttl) {
+        // Access-ordered so the least recently submitted-to task is dropped first
+        this.index = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TaskAssignments> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.ttlNanos = ttl.toNanos();
+        Arrays.setAll(loadLocks, i -> new Object());
+    }
+
+    // Edits on this node evict right away; the TTL bounds how long edits made on other nodes go unseen
+    @Override
+    public TaskAssignments get(Long taskId) {
+        TaskAssignments cached = index.get(taskId);
+        if (isFresh(cached)) {
+            return cached;
+        }
+        // One loader per task when a rush starts on a cold entry
+        synchronized (loadLocks[Math.floorMod(taskId.hashCode(), LOAD_STRIPES)]) {
+            cached = index.get(taskId);
+            if (isFresh(cached)) {
+                return cached;
+            }
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new RuntimeException("Task not found"));
+            TaskAssignments loaded = new TaskAssignments(taskId, task.getDeadline(),
+                Set.copyOf(taskRepository.findAssigneeIds(taskId)), System.nanoTime());
+            index.put(taskId, loaded);
+            return loaded;
+        }
+    }
+
+    @Override
+    public void evict(Long taskId) {
+        if (taskId != null) {
+            index.remove(taskId);
+        }
+    }
+
+    private boolean isFresh(TaskAssignments cached) {
+        return cached != null && System.nanoTime() - cached.getLoadedAtNanos() < ttlNanos;
+    }
+}
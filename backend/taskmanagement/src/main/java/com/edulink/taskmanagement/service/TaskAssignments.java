@@ -0,0 +1,17 @@
+package com.edulink.taskmanagement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// What a submission is validated against: the task's deadline and who it is assigned to
+@Data
+@AllArgsConstructor
+public class TaskAssignments {
+    private Long taskId;
+    private LocalDateTime deadline;
+    private Set<Long> assigneeIds;
+    private long loadedAtNanos;
+}
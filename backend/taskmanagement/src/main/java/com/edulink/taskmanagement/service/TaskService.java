@@ -1,29 +1,43 @@
 package com.edulink.taskmanagement.service;
 
 import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.payload.request.BulkTaskRequest;
 import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.payload.response.CalendarEventResponse;
+import com.edulink.taskmanagement.payload.response.CursorPage;
+import com.edulink.taskmanagement.payload.response.DashboardResponse;
+import com.edulink.taskmanagement.payload.response.TaskDetailResponse;
+import com.edulink.taskmanagement.payload.response.TaskListResponse;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 public interface TaskService {
     Task createTask(TaskRequest taskRequest, Long tutorId);
+    List<Task> createTasks(BulkTaskRequest bulkRequest, Long tutorId);
     Task updateTask(Long id, TaskRequest taskRequest, Long tutorId);
     void deleteTask(Long id);
+    List<String> migrateLegacyAttachments(Collection<Long> taskIds);
     Task getTaskById(Long id);
-    List<Task> getAllTasks();
-    List<Task> getTasksByTutor(Long tutorId);
-    List<Task> getTasksByStudent(Long studentId);
-    List<Task> getUpcomingTasks(LocalDateTime start, LocalDateTime end);
-    List<Task> getOverdueTasks();
+    TaskDetailResponse getTaskDetail(Long id);
+    List<TaskListResponse> getAllTasks();
+    List<TaskListResponse> getTasksByTutor(Long tutorId);
+    List<TaskListResponse> getTasksByStudent(Long studentId);
+    CursorPage<TaskListResponse> getTasksPage(String cursor, int size);
+    CursorPage<TaskListResponse> getTasksByTutorPage(Long tutorId, String cursor, int size);
+    CursorPage<TaskListResponse> getTasksByStudentPage(Long studentId, String cursor, int size);
+    List<TaskListResponse> getUpcomingTasks(LocalDateTime start, LocalDateTime end);
+    List<TaskListResponse> getOverdueTasks();
     List<Double> getWeeklyCompletionRates(Long tutorId);
     List<Double> getTaskCompletionRates(Long tutorId, Long studentId, String subject, String period);
     Map<String, List<Double>> getSubjectPerformance(Long tutorId, Long studentId, String period);
     Map<String, Double> getGradeDistribution(Long tutorId, Long studentId, String subject);
     Map<String, Double> getSubmissionTimeline(Long tutorId, Long studentId, String subject);
+    DashboardResponse getDashboard(Long tutorId, Long studentId, String subject, String period);
 
     // New methods for Calendar
-    List<Task> getTasksForMonth(Long userId, String role, int year, int month);
-    List<Task> getUpcomingEvents(Long userId, String role, LocalDateTime from);
+    List<CalendarEventResponse> getTasksForMonth(Long userId, String role, int year, int month);
+    List<CalendarEventResponse> getUpcomingEvents(Long userId, String role, LocalDateTime from);
 }
\ No newline at end of file
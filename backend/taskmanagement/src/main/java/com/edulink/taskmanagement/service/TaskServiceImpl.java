@@ -2,24 +2,39 @@ package com.edulink.taskmanagement.service;
 
 import com.edulink.taskmanagement.model.Task;
 import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.BulkTaskRequest;
 import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.payload.response.CalendarEventResponse;
+import com.edulink.taskmanagement.payload.response.CursorPage;
+import com.edulink.taskmanagement.payload.response.DashboardResponse;
+import com.edulink.taskmanagement.payload.response.TaskDetailResponse;
+import com.edulink.taskmanagement.payload.response.TaskListResponse;
+import com.edulink.taskmanagement.payload.response.UserSummaryResponse;
+import com.edulink.taskmanagement.repository.ProgressRepository;
 import com.edulink.taskmanagement.repository.TaskRepository;
+import com.edulink.taskmanagement.repository.projection.DashboardCounts;
+import com.edulink.taskmanagement.repository.projection.GradeDistributionCounts;
+import com.edulink.taskmanagement.repository.projection.SubmissionTimelineCounts;
+import com.edulink.taskmanagement.repository.projection.TaskAssignee;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDate;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoField;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalField;
-import java.time.temporal.WeekFields;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,305 +43,428 @@ public class TaskServiceImpl implements TaskService {
     private TaskRepository taskRepository;
 
     @Autowired
-    private UserService userService;
+    private ProgressRepository progressRepository;
 
-    private static final String UPLOAD_DIR = "uploads/";
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private StudentSummaryService studentSummaryService;
+
+    @Autowired
+    private AnalyticsRollupService analyticsRollupService;
+
+    @Autowired
+    private AttachmentStorageService attachmentStorageService;
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private OverdueTaskService overdueTaskService;
+
+    @Autowired
+    private TaskAssignmentCache taskAssignmentCache;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private Executor analyticsExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${edulink.tasks.bulk-max-size:500}")
+    private int bulkMaxSize;
 
     @Override
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    public List<TaskListResponse> getAllTasks() {
+        return withAssignees(taskRepository.findListItems());
     }
 
     @Override
     public Task getTaskById(Long id) {
-        return taskRepository.findById(id)
+        return taskRepository.findDetailById(id)
             .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
     }
 
     @Override
+    public TaskDetailResponse getTaskDetail(Long id) {
+        TaskDetailResponse detail = taskRepository.findDetailResponseById(id)
+            .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+        withAssignees(List.of(detail));
+        return detail;
+    }
+
+    @Override
+    @Transactional
     public Task createTask(TaskRequest taskRequest, Long tutorId) {
-        User tutor = userService.getUsersByRole("TUTOR").stream()
-            .filter(u -> u.getId().equals(tutorId))
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException("Tutor not found"));
-        Task task = new Task();
-        task.setTitle(taskRequest.getTitle());
-        task.setDescription(taskRequest.getDescription());
-        task.setDeadline(taskRequest.getDeadline());
-        task.setStatus("PENDING");
-        task.setSubject(taskRequest.getSubject());
-        task.setMaxScore(taskRequest.getMaxScore() != null ? taskRequest.getMaxScore() : 100);
-        task.setCreatedBy(tutor);
-        List<User> assignees = userService.getUsersByRole("STUDENT").stream()
-            .filter(u -> taskRequest.getAssigneeIds().contains(u.getId()))
-            .collect(Collectors.toList());
-        task.setAssignees(assignees);
+        User tutor = userDirectoryService.getUser(tutorId, "TUTOR");
+        Task task = newTask(taskRequest, tutor, userDirectoryService.getUsers(taskRequest.getAssigneeIds(), "STUDENT"));
+
+        attachFile(task, taskRequest.getFile());
+
+        Task savedTask = taskRepository.save(task);
+        studentSummaryService.refreshAssignments(assigneeIds(savedTask));
+        calendarFeedService.recordChanges(savedTask.getId(), calendarUsers(savedTask), List.of());
+        overdueTaskService.schedule(savedTask.getId(), savedTask.getDeadline());
+        analyticsCache.invalidate(List.of(tutorId), List.of(savedTask.getId()));
+        dataVersionService.bump(calendarUsers(savedTask));
+        return savedTask;
+    }
 
-        String attachmentUrl = handleFileUpload(taskRequest.getFile());
-        task.setAttachmentUrl(attachmentUrl);
+    @Override
+    @Transactional
+    public List<Task> createTasks(BulkTaskRequest bulkRequest, Long tutorId) {
+        List<TaskRequest> taskRequests = bulkRequest.getTasks() != null ? bulkRequest.getTasks() : List.of();
+        if (taskRequests.isEmpty() || taskRequests.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("A bulk request must contain between 1 and " + bulkMaxSize + " tasks");
+        }
+        User tutor = userDirectoryService.getUser(tutorId, "TUTOR");
+        List<Long> cohortIds = bulkRequest.getAssigneeIds() != null ? bulkRequest.getAssigneeIds() : List.of();
+
+        // One directory lookup covers the cohort and every task's own assignees
+        Set<Long> requestedIds = new LinkedHashSet<>(cohortIds);
+        taskRequests.forEach(taskRequest -> {
+            if (taskRequest.getAssigneeIds() != null) {
+                requestedIds.addAll(taskRequest.getAssigneeIds());
+            }
+        });
+        Map<Long, User> students = new HashMap<>();
+        userDirectoryService.getUsers(requestedIds, "STUDENT").forEach(student -> students.put(student.getId(), student));
+
+        List<Task> tasks = new ArrayList<>();
+        for (TaskRequest taskRequest : taskRequests) {
+            Set<Long> assigneeIds = new LinkedHashSet<>(cohortIds);
+            if (taskRequest.getAssigneeIds() != null) {
+                assigneeIds.addAll(taskRequest.getAssigneeIds());
+            }
+            List<User> assignees = assigneeIds.stream().map(students::get).filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+            tasks.add(newTask(taskRequest, tutor, assignees));
+        }
 
-        return taskRepository.save(task);
+        // Pooled ids let the task and task_assignees inserts go out as JDBC batches at flush
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        studentSummaryService.refreshAssignments(students.keySet());
+        Map<Long, List<Long>> calendarUsersByTask = new LinkedHashMap<>();
+        savedTasks.forEach(task -> calendarUsersByTask.put(task.getId(), calendarUsers(task)));
+        calendarFeedService.recordChanges(calendarUsersByTask);
+        savedTasks.forEach(task -> overdueTaskService.schedule(task.getId(), task.getDeadline()));
+        analyticsCache.invalidate(List.of(tutorId), savedTasks.stream().map(Task::getId).toList());
+        dataVersionService.bump(calendarUsersByTask.values().stream().flatMap(List::stream).toList());
+        return savedTasks;
     }
 
     @Override
     public Task updateTask(Long id, TaskRequest taskRequest, Long tutorId) {
+        return optimisticRetry.execute(() -> update(id, taskRequest, tutorId));
+    }
+
+    private Task update(Long id, TaskRequest taskRequest, Long tutorId) {
         Task task = getTaskById(id);
         if (!task.getCreatedBy().getId().equals(tutorId)) {
             throw new RuntimeException("Only the creator can update the task");
         }
+        String previousSubject = task.getSubject();
+        LocalDateTime previousDeadline = task.getDeadline();
         task.setTitle(taskRequest.getTitle());
         task.setDescription(taskRequest.getDescription());
         task.setDeadline(taskRequest.getDeadline());
+        // Extending the deadline of an overdue task reopens it
+        if ("OVERDUE".equals(task.getStatus()) && task.getDeadline() != null
+                && task.getDeadline().isAfter(LocalDateTime.now())) {
+            task.setStatus("PENDING");
+        }
         task.setSubject(taskRequest.getSubject());
         task.setMaxScore(taskRequest.getMaxScore() != null ? taskRequest.getMaxScore() : 100);
-        List<User> assignees = userService.getUsersByRole("STUDENT").stream()
-            .filter(u -> taskRequest.getAssigneeIds().contains(u.getId()))
-            .collect(Collectors.toList());
+        Set<Long> affectedStudents = new HashSet<>(assigneeIds(task));
+        Set<Long> previousCalendarUsers = new HashSet<>(calendarUsers(task));
+        List<User> assignees = userDirectoryService.getUsers(taskRequest.getAssigneeIds(), "STUDENT");
         task.setAssignees(assignees);
 
-        String attachmentUrl = handleFileUpload(taskRequest.getFile());
-        if (attachmentUrl != null) {
-            task.setAttachmentUrl(attachmentUrl);
+        String previousAttachment = task.getAttachmentHash();
+        if (attachFile(task, taskRequest.getFile())) {
+            attachmentStorageService.release(previousAttachment);
         }
 
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        analyticsRollupService.moveTask(savedTask.getId(), tutorId, previousSubject, previousDeadline,
+            savedTask.getSubject(), savedTask.getDeadline());
+        affectedStudents.addAll(assigneeIds(savedTask));
+        studentSummaryService.refreshAssignments(affectedStudents);
+        List<Long> calendarUsers = calendarUsers(savedTask);
+        calendarUsers.forEach(previousCalendarUsers::remove);
+        calendarFeedService.recordChanges(savedTask.getId(), calendarUsers, previousCalendarUsers);
+        if ("PENDING".equals(savedTask.getStatus())) {
+            overdueTaskService.schedule(savedTask.getId(), savedTask.getDeadline());
+        }
+        taskAssignmentCache.evict(savedTask.getId());
+        analyticsCache.invalidate(List.of(tutorId), List.of(savedTask.getId()));
+        affectedStudents.add(tutorId);
+        dataVersionService.bump(affectedStudents);
+        return savedTask;
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id) {
-        taskRepository.delete(getTaskById(id));
+        Task task = getTaskById(id);
+        List<Long> affectedStudents = assigneeIds(task);
+        analyticsRollupService.removeTask(task.getId(), task.getCreatedBy().getId(), task.getSubject(), task.getDeadline());
+        taskRepository.delete(task);
+        attachmentStorageService.release(task.getAttachmentHash());
+        studentSummaryService.refreshAssignments(affectedStudents);
+        calendarFeedService.recordChanges(task.getId(), List.of(), calendarUsers(task));
+        taskAssignmentCache.evict(task.getId());
+        analyticsCache.invalidate(List.of(task.getCreatedBy().getId()), List.of(task.getId()));
+        dataVersionService.bump(calendarUsers(task));
+    }
+
+    @Override
+    @Transactional
+    public List<String> migrateLegacyAttachments(Collection<Long> taskIds) {
+        List<String> migratedUrls = new ArrayList<>();
+        Set<Long> affectedUsers = new HashSet<>();
+        for (Task task : taskRepository.findAllById(taskIds)) {
+            String legacyUrl = task.getAttachmentUrl();
+            Optional<String> hash = attachmentStorageService.adoptLegacyUpload(legacyUrl);
+            if (hash.isEmpty()) {
+                continue;
+            }
+            // Legacy names are "<millis>_<original name>"
+            String legacyName = legacyUrl.substring(legacyUrl.lastIndexOf('/') + 1);
+            task.setAttachmentHash(hash.get());
+            task.setAttachmentUrl(attachmentUrl(hash.get(), legacyName.substring(legacyName.indexOf('_') + 1)));
+            migratedUrls.add(legacyUrl);
+            affectedUsers.addAll(calendarUsers(task));
+        }
+        dataVersionService.bump(affectedUsers);
+        return migratedUrls;
+    }
+
+    @Override
+    public List<TaskListResponse> getTasksByTutor(Long tutorId) {
+        userDirectoryService.getUser(tutorId, "TUTOR");
+        return withAssignees(taskRepository.findListItemsByCreatedById(tutorId));
+    }
+
+    @Override
+    public List<TaskListResponse> getTasksByStudent(Long studentId) {
+        return withAssignees(taskRepository.findListItemsByAssigneeId(studentId));
     }
 
+    // Assignees are batch-loaded while the page is mapped, so the mapping stays inside the read
     @Override
-    public List<Task> getTasksByTutor(Long tutorId) {
-        User tutor = userService.getUsersByRole("TUTOR").stream()
-            .filter(u -> u.getId().equals(tutorId))
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException("Tutor not found"));
-        return taskRepository.findByCreatedBy(tutor);
+    @Transactional(readOnly = true)
+    public CursorPage<TaskListResponse> getTasksPage(String cursor, int size) {
+        KeysetCursor.Position after = KeysetCursor.decode(cursor);
+        return KeysetCursor.toPage(taskRepository.findPageAfter(after.deadline(), after.id(), Limit.of(size + 1)),
+            size, Task::getDeadline, Task::getId, TaskListResponse::from);
     }
 
     @Override
-    public List<Task> getTasksByStudent(Long studentId) {
-        return taskRepository.findByAssigneeId(studentId);
+    @Transactional(readOnly = true)
+    public CursorPage<TaskListResponse> getTasksByTutorPage(Long tutorId, String cursor, int size) {
+        userDirectoryService.getUser(tutorId, "TUTOR");
+        KeysetCursor.Position after = KeysetCursor.decode(cursor);
+        return KeysetCursor.toPage(taskRepository.findPageByCreatedByIdAfter(tutorId, after.deadline(), after.id(), Limit.of(size + 1)),
+            size, Task::getDeadline, Task::getId, TaskListResponse::from);
     }
 
     @Override
-    public List<Task> getUpcomingTasks(LocalDateTime start, LocalDateTime end) {
-        return taskRepository.findByDeadlineBetween(start, end);
+    @Transactional(readOnly = true)
+    public CursorPage<TaskListResponse> getTasksByStudentPage(Long studentId, String cursor, int size) {
+        KeysetCursor.Position after = KeysetCursor.decode(cursor);
+        return KeysetCursor.toPage(taskRepository.findPageByAssigneeIdAfter(studentId, after.deadline(), after.id(), Limit.of(size + 1)),
+            size, Task::getDeadline, Task::getId, TaskListResponse::from);
     }
 
     @Override
-    public List<Task> getOverdueTasks() {
-        return taskRepository.findOverdueTasks(LocalDateTime.now());
+    public List<TaskListResponse> getUpcomingTasks(LocalDateTime start, LocalDateTime end) {
+        return withAssignees(taskRepository.findListItemsByDeadlineBetween(start, end));
+    }
+
+    @Override
+    public List<TaskListResponse> getOverdueTasks() {
+        return withAssignees(taskRepository.findOverdueListItems());
     }
 
     @Override
     public List<Double> getWeeklyCompletionRates(Long tutorId) {
-        User tutor = userService.getUsersByRole("TUTOR").stream()
-            .filter(u -> u.getId().equals(tutorId))
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException("Tutor not found"));
-        List<Task> tasks = taskRepository.findByCreatedBy(tutor);
-        LocalDateTime now = LocalDateTime.now();
-        WeekFields weekFields = WeekFields.of(Locale.getDefault());
-        int currentWeek = now.get(weekFields.weekOfWeekBasedYear());
-        return tasks.stream()
-            .filter(task -> task.getDeadline() != null && task.getDeadline().isBefore(now))
-            .collect(Collectors.groupingBy(
-                task -> task.getDeadline().get(weekFields.weekOfWeekBasedYear()),
-                Collectors.mapping(
-                    task -> task.getProgresses().stream()
-                        .mapToDouble(progress -> progress.getScore() != null ? progress.getScore() : 0)
-                        .average().orElse(0),
-                    Collectors.averagingDouble(Double::doubleValue)
-                )
-            ))
-            .entrySet().stream()
-            .filter(entry -> entry.getKey() >= currentWeek - 6 && entry.getKey() <= currentWeek)
-            .sorted(Map.Entry.comparingByKey())
-            .map(Map.Entry::getValue)
-            .collect(Collectors.toList());
+        return analytics(AnalyticsKey.forTutor("weeklyCompletionRates", tutorId, null, null, "weekly"), () -> {
+            userDirectoryService.getUser(tutorId, "TUTOR");
+            return analyticsRollupService.getScoreSeries(tutorId, null, null, "weekly");
+        });
     }
 
     @Override
     public List<Double> getTaskCompletionRates(Long tutorId, Long studentId, String subject, String period) {
-        List<Task> tasks = filterTasks(tutorId, studentId, subject);
-        LocalDateTime now = LocalDateTime.now();
-        int range;
-        TemporalField field;
-        switch (period.toLowerCase()) {
-            case "daily": range = 7; field = ChronoField.DAY_OF_YEAR; break;
-            case "weekly": range = 7; field = WeekFields.of(Locale.getDefault()).weekOfWeekBasedYear(); break;
-            case "monthly": range = 6; field = ChronoField.MONTH_OF_YEAR; break;
-            case "yearly": range = 5; field = ChronoField.YEAR; break;
-            default: throw new IllegalArgumentException("Invalid period: " + period);
-        }
-        Map<Integer, Double> rates = tasks.stream()
-            .filter(task -> task.getDeadline() != null && task.getDeadline().isBefore(now))
-            .collect(Collectors.groupingBy(
-                task -> (int) task.getDeadline().getLong(field),
-                Collectors.mapping(
-                    task -> task.getProgresses().stream()
-                        .mapToDouble(progress -> progress.getScore() != null ? progress.getScore() : 0)
-                        .average().orElse(0),
-                    Collectors.averagingDouble(Double::doubleValue)
-                )
-            ));
-        List<Double> result = new ArrayList<>();
-        int current = now.get(field);
-        for (int i = current - range + 1; i <= current; i++) {
-            result.add(rates.getOrDefault(i, 0.0));
-        }
-        return result;
+        String filter = subjectFilter(subject);
+        return analytics(AnalyticsKey.forTutor("taskCompletionRates", tutorId, studentId, filter, period), () -> {
+            userDirectoryService.getUser(tutorId, "TUTOR");
+            return analyticsRollupService.getScoreSeries(tutorId, studentId, filter, period);
+        });
     }
 
     @Override
     public Map<String, List<Double>> getSubjectPerformance(Long tutorId, Long studentId, String period) {
-        List<Task> tasks = filterTasks(tutorId, studentId, null);
-        LocalDateTime now = LocalDateTime.now();
-        int range;
-        ChronoUnit unit;
-        switch (period.toLowerCase()) {
-            case "daily": range = 7; unit = ChronoUnit.DAYS; break;
-            case "weekly": range = 7; unit = ChronoUnit.WEEKS; break;
-            case "monthly": range = 6; unit = ChronoUnit.MONTHS; break;
-            case "yearly": range = 5; unit = ChronoUnit.YEARS; break;
-            default: throw new IllegalArgumentException("Invalid period: " + period);
-        }
-        LocalDateTime start = now.minus(range, unit);
-        Map<String, List<Task>> bySubject = tasks.stream()
-            .filter(task -> task.getDeadline() != null && task.getDeadline().isAfter(start))
-            .collect(Collectors.groupingBy(Task::getSubject));
-        Map<String, List<Double>> performance = new HashMap<>();
-        for (String subj : bySubject.keySet()) {
-            List<Double> scores = bySubject.get(subj).stream()
-                .map(task -> task.getProgresses().stream()
-                    .mapToDouble(progress -> progress.getScore() != null ? progress.getScore() : 0)
-                    .average().orElse(0))
-                .collect(Collectors.toList());
-            performance.put(subj, scores);
-        }
-        return performance;
+        return analytics(AnalyticsKey.forTutor("subjectPerformance", tutorId, studentId, null, period), () -> {
+            userDirectoryService.getUser(tutorId, "TUTOR");
+            return analyticsRollupService.getScoreSeriesBySubject(tutorId, studentId, period);
+        });
     }
 
     @Override
     public Map<String, Double> getGradeDistribution(Long tutorId, Long studentId, String subject) {
-        List<Task> tasks = filterTasks(tutorId, studentId, subject);
-        Map<String, Long> gradeCount = tasks.stream()
-            .flatMap(task -> task.getProgresses().stream())
-            .map(progress -> {
-                Integer score = progress.getScore();
-                if (score == null) return "F";
-                if (score >= 90) return "A";
-                if (score >= 80) return "B";
-                if (score >= 70) return "C";
-                if (score >= 60) return "D";
-                return "F";
-            })
-            .collect(Collectors.groupingBy(grade -> grade, Collectors.counting()));
-        long total = gradeCount.values().stream().mapToLong(Long::longValue).sum();
+        String filter = subjectFilter(subject);
+        return analytics(AnalyticsKey.forTutor("gradeDistribution", tutorId, studentId, filter, null),
+            () -> computeGradeDistribution(tutorId, studentId, filter));
+    }
+
+    // Timed around the cache, so hits and computed answers both show in the latency callers see
+    private <T> T analytics(AnalyticsKey key, Supplier<T> loader) {
+        return Timer.builder("edulink.analytics")
+            .tag("method", key.getMethod())
+            .register(meterRegistry)
+            .record(() -> analyticsCache.get(key, loader));
+    }
+
+    private Map<String, Double> computeGradeDistribution(Long tutorId, Long studentId, String subject) {
+        userDirectoryService.getUser(tutorId, "TUTOR");
+        return gradeDistribution(progressRepository.countGradeDistribution(tutorId, studentId, subject));
+    }
+
+    private Map<String, Double> gradeDistribution(GradeDistributionCounts counts) {
+        long total = counts.getGradeA() + counts.getGradeB() + counts.getGradeC() + counts.getGradeDOrF();
         Map<String, Double> distribution = new HashMap<>();
-        distribution.put("A", gradeCount.getOrDefault("A", 0L) * 100.0 / total);
-        distribution.put("B", gradeCount.getOrDefault("B", 0L) * 100.0 / total);
-        distribution.put("C", gradeCount.getOrDefault("C", 0L) * 100.0 / total);
-        distribution.put("D & F", (gradeCount.getOrDefault("D", 0L) + gradeCount.getOrDefault("F", 0L)) * 100.0 / total);
+        distribution.put("A", percentage(counts.getGradeA(), total));
+        distribution.put("B", percentage(counts.getGradeB(), total));
+        distribution.put("C", percentage(counts.getGradeC(), total));
+        distribution.put("D & F", percentage(counts.getGradeDOrF(), total));
         return distribution;
     }
 
     @Override
     public Map<String, Double> getSubmissionTimeline(Long tutorId, Long studentId, String subject) {
-        List<Task> tasks = filterTasks(tutorId, studentId, subject);
-        Map<String, Long> timelineCount = tasks.stream()
-            .flatMap(task -> task.getProgresses().stream())
-            .map(progress -> {
-                LocalDateTime deadline = progress.getTask().getDeadline();
-                LocalDateTime submitted = progress.getSubmittedAt() != null ? progress.getSubmittedAt() : LocalDateTime.now();
-                if (submitted.isBefore(deadline.minusDays(1))) return "Early";
-                if (submitted.isBefore(deadline)) return "On-time";
-                if (submitted.isBefore(deadline.plusDays(1))) return "Late";
-                if (submitted.isAfter(deadline)) return "After deadline";
-                return "Incomplete";
-            })
-            .collect(Collectors.groupingBy(status -> status, Collectors.counting()));
-        long total = timelineCount.values().stream().mapToLong(Long::longValue).sum();
+        String filter = subjectFilter(subject);
+        return analytics(AnalyticsKey.forTutor("submissionTimeline", tutorId, studentId, filter, null),
+            () -> computeSubmissionTimeline(tutorId, studentId, filter));
+    }
+
+    private Map<String, Double> computeSubmissionTimeline(Long tutorId, Long studentId, String subject) {
+        userDirectoryService.getUser(tutorId, "TUTOR");
+        return submissionTimeline(progressRepository.countSubmissionTimeline(tutorId, studentId, subject, LocalDateTime.now()));
+    }
+
+    private Map<String, Double> submissionTimeline(SubmissionTimelineCounts counts) {
+        long total = counts.getEarly() + counts.getOnTime() + counts.getLate() + counts.getAfterDeadline() + counts.getIncomplete();
         Map<String, Double> timeline = new HashMap<>();
-        timeline.put("Early", timelineCount.getOrDefault("Early", 0L) * 100.0 / total);
-        timeline.put("On-time", timelineCount.getOrDefault("On-time", 0L) * 100.0 / total);
-        timeline.put("Late", timelineCount.getOrDefault("Late", 0L) * 100.0 / total);
-        timeline.put("After deadline", timelineCount.getOrDefault("After deadline", 0L) * 100.0 / total);
-        timeline.put("Incomplete", timelineCount.getOrDefault("Incomplete", 0L) * 100.0 / total);
+        timeline.put("Early", percentage(counts.getEarly(), total));
+        timeline.put("On-time", percentage(counts.getOnTime(), total));
+        timeline.put("Late", percentage(counts.getLate(), total));
+        timeline.put("After deadline", percentage(counts.getAfterDeadline(), total));
+        timeline.put("Incomplete", percentage(counts.getIncomplete(), total));
         return timeline;
     }
 
+    // Two reads instead of four: one pass over the rollups for both series and one over the progress rows for both
+    // count sets, run in parallel on the analytics executor. Not transactional, and open-in-view is off: the rollup
+    // read has returned its connection before join() waits, so waiting requests can't starve the executor's reads
     @Override
-    public List<Task> getTasksForMonth(Long userId, String role, int year, int month) {
+    public DashboardResponse getDashboard(Long tutorId, Long studentId, String subject, String period) {
+        String filter = subjectFilter(subject);
+        return analytics(AnalyticsKey.forTutor("dashboard", tutorId, studentId, filter, period), () -> {
+            userDirectoryService.getUser(tutorId, "TUTOR");
+            CompletableFuture<DashboardCounts> counts = CompletableFuture.supplyAsync(
+                () -> progressRepository.countDashboard(tutorId, studentId, filter, LocalDateTime.now()), analyticsExecutor);
+            ScoreSeries series = analyticsRollupService.getScoreSeriesSnapshot(tutorId, studentId, filter, period);
+            DashboardCounts dashboardCounts = counts.join();
+            return new DashboardResponse(series.getOverall(), series.getBySubject(),
+                gradeDistribution(dashboardCounts), submissionTimeline(dashboardCounts));
+        });
+    }
+
+    @Override
+    public List<CalendarEventResponse> getTasksForMonth(Long userId, String role, int year, int month) {
         LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
-        LocalDateTime end = start.plusMonths(1).minusSeconds(1);
-        List<Task> tasks;
-        if ("TUTOR".equalsIgnoreCase(role)) {
-            User tutor = userService.getUsersByRole("TUTOR").stream()
-                .filter(u -> u.getId().equals(userId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Tutor not found"));
-            tasks = taskRepository.findByCreatedBy(tutor);
-        } else if ("STUDENT".equalsIgnoreCase(role)) {
-            tasks = taskRepository.findByAssigneeId(userId);
-        } else {
-            throw new IllegalArgumentException("Invalid role: " + role);
-        }
-        return tasks.stream()
-            .filter(task -> task.getDeadline() != null &&
-                !task.getDeadline().isBefore(start) &&
-                !task.getDeadline().isAfter(end))
-            .collect(Collectors.toList());
+        return getCalendarEvents(userId, role, start, start.plusMonths(1).minusNanos(1));
     }
 
     @Override
-    public List<Task> getUpcomingEvents(Long userId, String role, LocalDateTime from) {
-        LocalDateTime to = from.plusDays(30);
-        List<Task> tasks;
+    public List<CalendarEventResponse> getUpcomingEvents(Long userId, String role, LocalDateTime from) {
+        return getCalendarEvents(userId, role, from, from.plusDays(30));
+    }
+
+    // Both bounds inclusive; the range is applied in SQL so only the window is read
+    private List<CalendarEventResponse> getCalendarEvents(Long userId, String role, LocalDateTime from, LocalDateTime to) {
         if ("TUTOR".equalsIgnoreCase(role)) {
-            User tutor = userService.getUsersByRole("TUTOR").stream()
-                .filter(u -> u.getId().equals(userId))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("Tutor not found"));
-            tasks = taskRepository.findByCreatedBy(tutor);
+            userDirectoryService.getUser(userId, "TUTOR");
+            return taskRepository.findCalendarEventsByCreatorBetween(userId, from, to);
         } else if ("STUDENT".equalsIgnoreCase(role)) {
-            tasks = taskRepository.findByAssigneeId(userId);
-        } else {
-            throw new IllegalArgumentException("Invalid role: " + role);
+            return taskRepository.findCalendarEventsByAssigneeBetween(userId, from, to);
         }
-        return tasks.stream()
-            .filter(task -> task.getDeadline() != null &&
-                !task.getDeadline().isBefore(from) &&
-                !task.getDeadline().isAfter(to))
-            .sorted(Comparator.comparing(Task::getDeadline))
-            .collect(Collectors.toList());
+        throw new IllegalArgumentException("Invalid role: " + role);
+    }
+
+    private String subjectFilter(String subject) {
+        return subject != null && !subject.equalsIgnoreCase("all-subjects") ? subject : null;
+    }
+
+    private double percentage(long count, long total) {
+        return total == 0 ? 0.0 : count * 100.0 / total;
     }
 
-    private List<Task> filterTasks(Long tutorId, Long studentId, String subject) {
-        User tutor = userService.getUsersByRole("TUTOR").stream()
-            .filter(u -> u.getId().equals(tutorId))
-            .findFirst()
-            .orElseThrow(() -> new RuntimeException("Tutor not found"));
-        List<Task> tasks = taskRepository.findByCreatedBy(tutor);
-        if (studentId != null) {
-            tasks = tasks.stream()
-                .filter(task -> task.getAssignees().stream().anyMatch(u -> u.getId().equals(studentId)))
-                .collect(Collectors.toList());
+    private <T extends TaskListResponse> List<T> withAssignees(List<T> tasks) {
+        if (tasks.isEmpty()) {
+            return tasks;
         }
-        if (subject != null && !subject.equalsIgnoreCase("all-subjects")) {
-            tasks = tasks.stream()
-                .filter(task -> subject.equalsIgnoreCase(task.getSubject()))
-                .collect(Collectors.toList());
+        Map<Long, T> byId = new HashMap<>();
+        tasks.forEach(task -> byId.put(task.getId(), task));
+        for (TaskAssignee assignee : taskRepository.findAssigneesByTaskIds(byId.keySet())) {
+            byId.get(assignee.getTaskId()).getAssignees()
+                .add(new UserSummaryResponse(assignee.getId(), assignee.getName(), assignee.getEmail()));
         }
         return tasks;
     }
 
-    private String handleFileUpload(MultipartFile file) {
+    private Task newTask(TaskRequest taskRequest, User tutor, List<User> assignees) {
+        Task task = new Task();
+        task.setTitle(taskRequest.getTitle());
+        task.setDescription(taskRequest.getDescription());
+        task.setDeadline(taskRequest.getDeadline());
+        task.setStatus("PENDING");
+        task.setSubject(taskRequest.getSubject());
+        task.setMaxScore(taskRequest.getMaxScore() != null ? taskRequest.getMaxScore() : 100);
+        task.setCreatedBy(tutor);
+        task.setAssignees(assignees);
+        return task;
+    }
+
+    // Everyone whose calendar feed shows the task
+    private List<Long> calendarUsers(Task task) {
+        List<Long> users = new ArrayList<>(assigneeIds(task));
+        users.add(task.getCreatedBy().getId());
+        return users;
+    }
+
+    private List<Long> assigneeIds(Task task) {
+        return task.getAssignees().stream()
+            .map(User::getId)
+            .collect(Collectors.toList());
+    }
+
+    // Streams the upload into the attachment store; returns false when there was nothing to attach
+    private boolean attachFile(Task task, MultipartFile file) {
         if (file == null || file.isEmpty()) {
-            return null;
+            return false;
         }
 
         long maxSize = 10 * 1024 * 1024;
@@ -339,19 +477,32 @@ public class TaskServiceImpl implements TaskService {
             throw new RuntimeException("Invalid file type. Only PDF, DOC, DOCX, and TXT are allowed.");
         }
 
-        try {
-            File uploadDir = new File(UPLOAD_DIR);
-            if (!uploadDir.exists()) {
-                uploadDir.mkdirs();
-            }
-
-            String fileName = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-            Path filePath = Paths.get(UPLOAD_DIR + fileName);
-            Files.write(filePath, file.getBytes());
-            return "/uploads/" + fileName;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try (InputStream content = file.getInputStream()) {
+            String hash = attachmentStorageService.store(content, contentType);
+            task.setAttachmentHash(hash);
+            task.setAttachmentUrl(attachmentUrl(hash, file.getOriginalFilename()));
+            outcome = "stored";
+            DistributionSummary.builder("edulink.uploads.size")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(file.getSize());
+            return true;
         } catch (IOException e) {
             throw new RuntimeException("Failed to save file: " + e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("edulink.uploads").tag("outcome", outcome).register(meterRegistry));
+        }
+    }
+
+    // The trailing file name is only for display; the hash identifies the content
+    private String attachmentUrl(String hash, String fileName) {
+        String name = fileName != null ? fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1) : "";
+        if (name.isBlank()) {
+            name = "attachment";
         }
+        return "/api/attachments/" + hash + "/" + UriUtils.encodePathSegment(name, StandardCharsets.UTF_8);
     }
 
     private boolean isValidFileType(String contentType) {
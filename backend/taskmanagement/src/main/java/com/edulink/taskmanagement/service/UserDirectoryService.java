@@ -0,0 +1,13 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.User;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserDirectoryService {
+    User getUser(Long userId, String role);
+    List<User> getUsers(Collection<Long> userIds, String role);
+    void evict(Long userId);
+    void evictAll();
+}
@@ -0,0 +1,114 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+@Service
+public class UserDirectoryServiceImpl implements UserDirectoryService {
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<Long, DirectoryEntry> index;
+    private final long ttlNanos;
+
+    public UserDirectoryServiceImpl(@Value("${edulink.user-directory.max-entries:1000}") int maxEntries,
+                                    @Value("${edulink.user-directory.ttl:PT30S}") Duration ttl) {
+        // Access-ordered so the least recently resolved user is dropped first
+        this.index = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, DirectoryEntry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public User getUser(Long userId, String role) {
+        List<User> users = getUsers(Collections.singletonList(userId), role);
+        if (users.isEmpty()) {
+            throw new RuntimeException(displayName(role) + " not found");
+        }
+        return users.get(0);
+    }
+
+    @Override
+    public List<User> getUsers(Collection<Long> userIds, String role) {
+        if (userIds == null || userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+        requested.remove(null);
+
+        // Edits on this node evict right away; the TTL bounds how long edits made on other nodes go unseen
+        Map<Long, DirectoryEntry> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            DirectoryEntry cached = index.get(id);
+            if (isFresh(cached)) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long loadedAtNanos = System.nanoTime();
+            for (User user : userRepository.findAllById(missing)) {
+                DirectoryEntry entry = new DirectoryEntry(user.getId(), user.getRole(), user.getName(), user.getEmail(), loadedAtNanos);
+                index.put(entry.id(), entry);
+                found.put(entry.id(), entry);
+            }
+        }
+
+        List<User> users = new ArrayList<>();
+        for (Long id : requested) {
+            DirectoryEntry entry = found.get(id);
+            if (entry != null && entry.role() != null && entry.role().equalsIgnoreCase(role)) {
+                users.add(entry.toUser());
+            }
+        }
+        return users;
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if (userId != null) {
+            index.remove(userId);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        index.clear();
+    }
+
+    private boolean isFresh(DirectoryEntry cached) {
+        return cached != null && System.nanoTime() - cached.loadedAtNanos() < ttlNanos;
+    }
+
+    private String displayName(String role) {
+        if (role == null || role.isEmpty()) {
+            return "User";
+        }
+        return role.substring(0, 1).toUpperCase() + role.substring(1).toLowerCase();
+    }
+
+    // Only what callers read (an association reference and the names and emails shown in responses), so cached
+    // entries can't be changed through the users handed out
+    private record DirectoryEntry(Long id, String role, String name, String email, long loadedAtNanos) {
+        User toUser() {
+            User user = new User();
+            user.setId(id);
+            user.setRole(role);
+            user.setName(name);
+            user.setEmail(email);
+            return user;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.edulink.taskmanagement.service;
 import com.edulink.taskmanagement.model.Progress;
 import com.edulink.taskmanagement.model.Task;
 import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.response.UserDetailResponse;
 import com.edulink.taskmanagement.repository.TaskRepository;
 import com.edulink.taskmanagement.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,8 +11,10 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.temporal.IsoFields;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,24 +25,30 @@ public class UserServiceImpl implements UserService { // Assuming an interface e
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private UserDirectoryService userDirectoryService;
+
+    @Autowired
+    private AnalyticsCache analyticsCache;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     @Override
-    public List<User> getUsersByRole(String role) {
-        List<User> users = userRepository.findAll().stream()
-            .filter(user -> user.getRole().equalsIgnoreCase(role))
-            .toList();
-        if ("STUDENT".equalsIgnoreCase(role)) {
-            users.forEach(this::updateStudentDetails);
-        }
-        return users;
+    public List<UserDetailResponse> getUsersByRole(String role) {
+        // Student grade/status are kept current by StudentSummaryService, so this is a plain read
+        return userRepository.findDetailsByRole(role);
     }
 
     @Override
     public List<Double> getStudentProgressOverTime(Long tutorId) {
-        List<Task> tasks = taskRepository.findByCreatedBy(
-            userRepository.findById(tutorId)
-                .filter(u -> u.getRole().equalsIgnoreCase("TUTOR"))
-                .orElseThrow(() -> new RuntimeException("Tutor not found"))
-        );
+        return analyticsCache.get(AnalyticsKey.forTutor("studentProgressOverTime", tutorId, null, null, null),
+            () -> computeStudentProgressOverTime(tutorId));
+    }
+
+    private List<Double> computeStudentProgressOverTime(Long tutorId) {
+        userDirectoryService.getUser(tutorId, "TUTOR");
+        List<Task> tasks = taskRepository.findAnalyticsViewByCreatedById(tutorId);
         LocalDateTime now = LocalDateTime.now();
         int currentWeek = now.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
 
@@ -58,45 +67,6 @@ public class UserServiceImpl implements UserService { // Assuming an interface e
             .collect(Collectors.toList());
     }
 
-    private void updateStudentDetails(User student) {
-        List<Task> tasks = taskRepository.findByAssigneeId(student.getId());
-        if (tasks.isEmpty()) {
-            student.setGrade("N/A");
-            student.setStatus("PENDING");
-        } else {
-            double completionPercentage = tasks.stream()
-                .flatMap(task -> task.getProgresses().stream())
-                .filter(p -> p.getStudent().getId().equals(student.getId()))
-                .mapToDouble(Progress::getPercentageComplete)
-                .average()
-                .orElse(0);
-
-            student.setGrade(calculateGrade(completionPercentage));
-            student.setStatus(calculateStatus(tasks));
-        }
-        student.setLastActive(LocalDateTime.now());
-        userRepository.save(student);
-    }
-
-    private String calculateGrade(double percentage) {
-        if (percentage >= 90) return "A";
-        if (percentage >= 80) return "B";
-        if (percentage >= 70) return "C";
-        if (percentage >= 60) return "D";
-        return "F";
-    }
-
-    private String calculateStatus(List<Task> tasks) {
-        if (tasks.isEmpty()) return "PENDING";
-        if (tasks.stream().allMatch(t -> "COMPLETED".equalsIgnoreCase(t.getStatus()))) {
-            return "COMPLETED";
-        } else if (tasks.stream().anyMatch(t -> "IN_PROGRESS".equalsIgnoreCase(t.getStatus()))) {
-            return "IN_PROGRESS";
-        } else {
-            return "PENDING";
-        }
-    }
-
     // New methods for Settings
     @Override
     public User getUserById(Long userId) {
@@ -107,10 +77,21 @@ public class UserServiceImpl implements UserService { // Assuming an interface e
     @Override
     public User updateUser(Long userId, User updatedUser) {
         User existingUser = getUserById(userId);
+        boolean renamed = (updatedUser.getName() != null && !updatedUser.getName().equals(existingUser.getName()))
+            || (updatedUser.getEmail() != null && !updatedUser.getEmail().equals(existingUser.getEmail()));
         if (updatedUser.getName() != null) existingUser.setName(updatedUser.getName());
         if (updatedUser.getEmail() != null) existingUser.setEmail(updatedUser.getEmail());
         if (updatedUser.getPassword() != null) existingUser.setPassword(updatedUser.getPassword()); // Should be hashed in a real app
         if (updatedUser.getPreferences() != null) existingUser.setPreferences(updatedUser.getPreferences());
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        userDirectoryService.evict(userId);
+        // Names and emails appear in the task lists of everyone sharing a task with this user
+        if (renamed) {
+            Set<Long> affectedUsers = new HashSet<>(taskRepository.findCreatorIdsByAssigneeId(userId));
+            affectedUsers.addAll(taskRepository.findAssigneeIdsByCreatedById(userId));
+            affectedUsers.add(userId);
+            dataVersionService.bump(affectedUsers);
+        }
+        return savedUser;
     }
 }
\ No newline at end of file
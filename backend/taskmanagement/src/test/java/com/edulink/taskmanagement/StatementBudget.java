@@ -0,0 +1,34 @@
+package com.edulink.taskmanagement;
+
+import com.edulink.taskmanagement.config.StatementRecorder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Test support for SQL statement budgets: counts the JDBC statements an action prepares, including work it hands to
+// the analytics and MVC async executors, and fails with the most repeated statements when it goes over
+public final class StatementBudget {
+
+	public interface Action {
+		void run() throws Exception;
+	}
+
+	private StatementBudget() {
+	}
+
+	public static StatementRecorder record(Action action) throws Exception {
+		StatementRecorder recorder = StatementRecorder.start();
+		try {
+			action.run();
+		} finally {
+			recorder.close();
+		}
+		return recorder;
+	}
+
+	// "At most maxStatements for rows rows": with rows well above the budget, an N+1 cannot fit in it
+	public static void assertAtMost(int maxStatements, int rows, Action action) throws Exception {
+		StatementRecorder recorder = record(action);
+		assertTrue(recorder.getCount() <= maxStatements, () -> "Expected at most " + maxStatements + " statements for "
+			+ rows + " rows but got " + recorder.getCount() + "; most repeated: " + recorder.getTopStatements(5));
+	}
+}
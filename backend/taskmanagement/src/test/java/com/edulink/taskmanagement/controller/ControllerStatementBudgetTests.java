@@ -0,0 +1,387 @@
+package com.edulink.taskmanagement.controller;
+
+import com.edulink.taskmanagement.StatementBudget;
+import com.edulink.taskmanagement.model.Progress;
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.BulkTaskRequest;
+import com.edulink.taskmanagement.payload.request.ProgressRequest;
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.repository.TaskRepository;
+import com.edulink.taskmanagement.repository.UserRepository;
+import com.edulink.taskmanagement.service.AnalyticsCache;
+import com.edulink.taskmanagement.service.ProgressService;
+import com.edulink.taskmanagement.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+// Pins the SQL statement budget of every endpoint in the controller package against a class of ROWS students with
+// ROWS tasks, each submitted and graded by every student. Caches are emptied before each test, so the budgets hold
+// for a cold request; a budget that has to grow with ROWS is an N+1. Writes that take ids from the pooled
+// id_allocations generator leave room for one more block (a SELECT and an UPDATE per 50 ids).
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"edulink.attachments.root=target/statement-budget-uploads",
+	// Buffered submissions are written by the shared group-commit thread; the direct path is what a request costs
+	"edulink.submissions.buffered=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ControllerStatementBudgetTests {
+
+	private static final int ROWS = 20;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private ProgressService progressService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private AnalyticsCache analyticsCache;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long tutorId;
+	private final List<Long> studentIds = new ArrayList<>();
+	private final List<Task> tasks = new ArrayList<>();
+	private final List<Long> progressIds = new ArrayList<>();
+	private Task attachmentTask;
+
+	@BeforeAll
+	void createClass() throws Exception {
+		tutorId = userRepository.save(user("TUTOR")).getId();
+		for (int i = 0; i < ROWS; i++) {
+			studentIds.add(userRepository.save(user("STUDENT")).getId());
+		}
+		tasks.addAll(taskService.createTasks(bulkRequest(ROWS), tutorId));
+		for (Task task : tasks) {
+			Map<Long, ProgressRequest> grades = new HashMap<>();
+			for (Long studentId : studentIds) {
+				ProgressSubmissionRequest submission = new ProgressSubmissionRequest();
+				submission.setTaskId(task.getId());
+				submission.setPercentageComplete(50);
+				Progress progress = progressService.submitProgress(submission, studentId);
+				progressIds.add(progress.getId());
+				grades.put(progress.getId(), grade(80));
+			}
+			progressService.gradeSubmissions(task.getId(), grades, tutorId);
+		}
+		perform(multipart("/api/tasks").file(taskPart(taskRequest("Attachment task")))
+			.file(new MockMultipartFile("file", "notes.txt", "text/plain", "Lecture notes".getBytes()))
+			.param("tutorId", tutorId.toString()));
+		attachmentTask = taskRepository.findAll().stream()
+			.filter(task -> task.getAttachmentHash() != null).findFirst().orElseThrow();
+	}
+
+	@BeforeEach
+	void emptyCaches() {
+		analyticsCache.invalidateAll();
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+	}
+
+	// AttachmentController
+
+	@Test
+	void downloadAttachment() throws Exception {
+		assertBudget(1, () -> perform(get("/api/attachments/{hash}/notes.txt", attachmentTask.getAttachmentHash())));
+	}
+
+	// AuthController
+
+	@Test
+	void signUpAndSignIn() throws Exception {
+		String email = "budget-" + UUID.randomUUID() + "@example.invalid";
+		assertBudget(3, () -> perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON)
+			.content("{\"email\":\"" + email + "\",\"password\":\"secret\",\"name\":\"Budget\",\"role\":\"STUDENT\"}")));
+		assertBudget(1, () -> perform(post("/api/auth/signin").contentType(MediaType.APPLICATION_JSON)
+			.content("{\"email\":\"" + email + "\",\"password\":\"secret\"}")));
+	}
+
+	// CacheController
+
+	@Test
+	void cacheStatistics() throws Exception {
+		assertBudget(0, () -> perform(get("/api/cache/statistics")));
+	}
+
+	// CalendarController
+
+	@Test
+	void calendarMonth() throws Exception {
+		LocalDate deadline = tasks.get(0).getDeadline().toLocalDate();
+		assertBudget(1, () -> perform(get("/api/calendar/tasks").param("userId", studentIds.get(0).toString())
+			.param("role", "STUDENT").param("year", String.valueOf(deadline.getYear()))
+			.param("month", String.valueOf(deadline.getMonthValue()))));
+	}
+
+	@Test
+	void calendarUpcoming() throws Exception {
+		assertBudget(1, () -> perform(get("/api/calendar/upcoming").param("userId", tutorId.toString())
+			.param("role", "TUTOR").param("from", LocalDateTime.now().withNano(0).toString())));
+	}
+
+	@Test
+	void calendarFeed() throws Exception {
+		assertBudget(3, () -> perform(get("/api/calendar/feed/{userId}.ics", studentIds.get(0)).param("role", "STUDENT")));
+	}
+
+	// ExportController
+
+	@Test
+	void exportTasks() throws Exception {
+		assertBudget(3, () -> perform(get("/api/export/tasks").param("tutorId", tutorId.toString())));
+	}
+
+	// ProgressController
+
+	@Test
+	void progressByTask() throws Exception {
+		assertBudget(2, () -> perform(get("/api/progress/task/{taskId}", tasks.get(0).getId())));
+	}
+
+	@Test
+	void progressByStudent() throws Exception {
+		assertBudget(2, () -> perform(get("/api/progress/student/{studentId}", studentIds.get(0))));
+	}
+
+	@Test
+	void submitProgress() throws Exception {
+		assertBudget(11, () -> perform(post("/api/progress/submit").param("studentId", studentIds.get(1).toString())
+			.contentType(MediaType.APPLICATION_JSON)
+			.content("{\"taskId\":" + tasks.get(1).getId() + ",\"percentageComplete\":60}")));
+	}
+
+	@Test
+	void gradeSubmission() throws Exception {
+		assertBudget(6, () -> perform(put("/api/progress/grade/{progressId}", progressIds.get(0))
+			.param("tutorId", tutorId.toString()).contentType(MediaType.APPLICATION_JSON).content("{\"score\":90}")));
+	}
+
+	@Test
+	void gradeTask() throws Exception {
+		Map<String, Map<Long, ProgressRequest>> batch = new HashMap<>();
+		batch.put("grades", new HashMap<>());
+		progressIds.subList(ROWS, 2 * ROWS).forEach(progressId -> batch.get("grades").put(progressId, grade(70)));
+		assertBudget(7, () -> perform(put("/api/progress/grade/task/{taskId}", tasks.get(1).getId())
+			.param("tutorId", tutorId.toString()).contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(batch))));
+	}
+
+	@Test
+	void progressHistory() throws Exception {
+		assertBudget(2, () -> perform(get("/api/progress/{progressId}/history", progressIds.get(0))));
+	}
+
+	@Test
+	void taskStatistics() throws Exception {
+		assertBudget(5, () -> perform(get("/api/progress/statistics/task/{taskId}", tasks.get(0).getId())));
+	}
+
+	// ReportController
+
+	@Test
+	void reportTaskCompletionRate() throws Exception {
+		assertBudget(1, () -> perform(get("/api/reports/task-completion-rate").param("tutorId", tutorId.toString())));
+	}
+
+	@Test
+	void reportStudentProgress() throws Exception {
+		assertBudget(1, () -> perform(get("/api/reports/student-progress").param("tutorId", tutorId.toString())));
+	}
+
+	// StatisticsController
+
+	@Test
+	void statisticsCharts() throws Exception {
+		for (String chart : List.of("task-completion-rate", "subject-performance", "grade-distribution", "submission-timeline")) {
+			emptyCaches();
+			assertBudget(2, () -> perform(get("/api/statistics/" + chart).param("tutorId", tutorId.toString())));
+		}
+	}
+
+	@Test
+	void statisticsDashboard() throws Exception {
+		assertBudget(3, () -> perform(get("/api/statistics/dashboard").param("tutorId", tutorId.toString())));
+	}
+
+	@Test
+	void verifyRollups() throws Exception {
+		assertBudget(2, () -> perform(post("/api/statistics/rollups/verify").param("tutorId", tutorId.toString())));
+	}
+
+	// TaskController
+
+	@Test
+	void allTasks() throws Exception {
+		assertBudget(2, () -> perform(get("/api/tasks")));
+	}
+
+	@Test
+	void taskById() throws Exception {
+		assertBudget(2, () -> perform(get("/api/tasks/{taskId}", tasks.get(0).getId())));
+	}
+
+	@Test
+	void tasksForTutor() throws Exception {
+		assertBudget(3, () -> perform(get("/api/tasks/tutor/{tutorId}", tutorId)));
+	}
+
+	@Test
+	void tasksForStudent() throws Exception {
+		assertBudget(3, () -> perform(get("/api/tasks/student/{studentId}", studentIds.get(0))));
+	}
+
+	@Test
+	void upcomingTasks() throws Exception {
+		assertBudget(2, () -> perform(get("/api/tasks/upcoming").param("start", LocalDateTime.now().toString())
+			.param("end", LocalDateTime.now().plusDays(30).toString())));
+	}
+
+	@Test
+	void overdueTasks() throws Exception {
+		assertBudget(1, () -> perform(get("/api/tasks/overdue")));
+	}
+
+	@Test
+	void createTask() throws Exception {
+		assertBudget(14, () -> perform(multipart("/api/tasks").file(taskPart(taskRequest("Created task")))
+			.param("tutorId", tutorId.toString())));
+	}
+
+	@Test
+	void createTasksInBulk() throws Exception {
+		assertBudget(32, () -> perform(post("/api/tasks/bulk").param("tutorId", tutorId.toString())
+			.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(bulkRequest(ROWS)))));
+	}
+
+	@Test
+	void updateTask() throws Exception {
+		Task task = taskService.createTask(taskRequest("Task to update"), tutorId);
+		TaskRequest update = taskRequest("Updated task");
+		update.setDeadline(LocalDateTime.now().plusDays(10));
+		assertBudget(20, () -> perform(multipart("/api/tasks/{taskId}", task.getId()).file(taskPart(update))
+			.param("tutorId", tutorId.toString()).with(request -> {
+				request.setMethod("PUT");
+				return request;
+			})));
+	}
+
+	@Test
+	void deleteTask() throws Exception {
+		Task task = taskService.createTask(taskRequest("Task to delete"), tutorId);
+		assertBudget(16, () -> perform(delete("/api/tasks/{taskId}", task.getId())));
+	}
+
+	// UserController
+
+	@Test
+	void usersByRole() throws Exception {
+		assertBudget(1, () -> perform(get("/api/users").param("role", "STUDENT")));
+	}
+
+	@Test
+	void currentUser() throws Exception {
+		assertBudget(1, () -> perform(get("/api/users/me").param("userId", studentIds.get(0).toString())));
+	}
+
+	// PUT /api/users/me is not pinned: binding a User body fails with 415 before any statement runs
+
+	private void assertBudget(int maxStatements, StatementBudget.Action request) throws Exception {
+		StatementBudget.assertAtMost(maxStatements, ROWS, request);
+	}
+
+	// Completes deferred and streamed responses too, so their statements are part of the count
+	private void perform(RequestBuilder request) throws Exception {
+		MvcResult result = mockMvc.perform(request).andReturn();
+		if (result.getRequest().isAsyncStarted()) {
+			result.getAsyncResult();
+			result = mockMvc.perform(asyncDispatch(result)).andReturn();
+		}
+		int status = result.getResponse().getStatus();
+		if (status >= 400) {
+			throw new AssertionError(result.getRequest().getRequestURI() + " answered " + status);
+		}
+	}
+
+	private MockMultipartFile taskPart(TaskRequest task) throws Exception {
+		return new MockMultipartFile("task", "", MediaType.APPLICATION_JSON_VALUE, objectMapper.writeValueAsBytes(task));
+	}
+
+	private BulkTaskRequest bulkRequest(int count) {
+		BulkTaskRequest bulkRequest = new BulkTaskRequest();
+		bulkRequest.setAssigneeIds(studentIds);
+		for (int i = 0; i < count; i++) {
+			bulkRequest.getTasks().add(taskRequest("Budget task " + i));
+		}
+		return bulkRequest;
+	}
+
+	private TaskRequest taskRequest(String title) {
+		TaskRequest request = new TaskRequest();
+		request.setTitle(title);
+		request.setDescription("Statement budget fixture");
+		request.setDeadline(LocalDateTime.now().plusDays(7).withNano(0));
+		request.setSubject("Mathematics");
+		request.setAssigneeIds(studentIds);
+		request.setMaxScore(100);
+		return request;
+	}
+
+	private ProgressRequest grade(int score) {
+		ProgressRequest grade = new ProgressRequest();
+		grade.setScore(score);
+		return grade;
+	}
+
+	private User user(String role) {
+		User user = new User();
+		user.setEmail("budget-" + UUID.randomUUID() + "@example.invalid");
+		user.setName("Budget " + role.toLowerCase());
+		user.setPassword("");
+		user.setRole(role);
+		return user;
+	}
+}
@@ -0,0 +1,159 @@
+package com.edulink.taskmanagement.service;
+
+import com.edulink.taskmanagement.model.Task;
+import com.edulink.taskmanagement.model.User;
+import com.edulink.taskmanagement.payload.request.ProgressSubmissionRequest;
+import com.edulink.taskmanagement.payload.request.TaskRequest;
+import com.edulink.taskmanagement.payload.response.CursorPage;
+import com.edulink.taskmanagement.payload.response.ProgressResponse;
+import com.edulink.taskmanagement.payload.response.TaskListResponse;
+import com.edulink.taskmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Keyset pages over tasks whose deadline is missing: those rows page first and a page boundary falling among them
+// must neither end the scroll nor repeat rows
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:keyset-pagination;MODE=MySQL;DB_CLOSE_DELAY=-1",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"edulink.attachments.root=target/keyset-pagination-uploads"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPaginationTests {
+
+	private static final int TASKS = 7;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private ProgressService progressService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long tutorId;
+	private Long studentId;
+	// Expected page order: tasks without a deadline by id, then the rest by deadline
+	private final List<Long> taskOrder = new ArrayList<>();
+	private final List<Long> progressOrder = new ArrayList<>();
+
+	@BeforeAll
+	void createTasks() {
+		tutorId = userRepository.save(user("TUTOR")).getId();
+		studentId = userRepository.save(user("STUDENT")).getId();
+		List<Task> tasks = new ArrayList<>();
+		List<Long> progressIds = new ArrayList<>();
+		for (int i = 0; i < TASKS; i++) {
+			Task task = taskService.createTask(taskRequest("Keyset task " + i, LocalDateTime.now().plusDays(TASKS - i).withNano(0)), tutorId);
+			ProgressSubmissionRequest submission = new ProgressSubmissionRequest();
+			submission.setTaskId(task.getId());
+			submission.setPercentageComplete(50);
+			progressIds.add(progressService.submitProgress(submission, studentId).getId());
+			tasks.add(task);
+		}
+		// Submissions need a deadline, so three of them lose it afterwards
+		List<Integer> undated = List.of(1, 3, 4);
+		undated.forEach(i -> jdbcTemplate.update("UPDATE tasks SET deadline = NULL WHERE id = ?", tasks.get(i).getId()));
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+		List<Integer> order = new ArrayList<>(undated);
+		List<Integer> dated = new ArrayList<>();
+		for (int i = 0; i < TASKS; i++) {
+			if (!undated.contains(i)) {
+				dated.add(i);
+			}
+		}
+		dated.sort(Comparator.comparing((Integer i) -> tasks.get(i).getDeadline()));
+		order.addAll(dated);
+		order.forEach(i -> {
+			taskOrder.add(tasks.get(i).getId());
+			progressOrder.add(progressIds.get(i));
+		});
+	}
+
+	@Test
+	void tasksPageAcrossMissingDeadlines() {
+		for (int size = 1; size <= TASKS + 1; size++) {
+			assertEquals(taskOrder, scroll(size, taskService::getTasksPage, TaskListResponse::getId), "page size " + size);
+		}
+	}
+
+	@Test
+	void tutorAndStudentTaskPagesAcrossMissingDeadlines() {
+		for (int size = 1; size <= TASKS + 1; size++) {
+			assertEquals(taskOrder, scroll(size, (cursor, pageSize) -> taskService.getTasksByTutorPage(tutorId, cursor, pageSize),
+				TaskListResponse::getId), "page size " + size);
+			assertEquals(taskOrder, scroll(size, (cursor, pageSize) -> taskService.getTasksByStudentPage(studentId, cursor, pageSize),
+				TaskListResponse::getId), "page size " + size);
+		}
+	}
+
+	@Test
+	void progressPagesAcrossMissingDeadlines() {
+		for (int size = 1; size <= TASKS + 1; size++) {
+			assertEquals(progressOrder, scroll(size, (cursor, pageSize) -> progressService.getProgressByStudentPage(studentId, cursor, pageSize),
+				ProgressResponse::getId), "page size " + size);
+		}
+		Long undatedTaskId = taskOrder.get(0);
+		assertEquals(List.of(progressOrder.get(0)), scroll(1,
+			(cursor, pageSize) -> progressService.getProgressByTaskIdPage(undatedTaskId, cursor, pageSize), ProgressResponse::getId));
+	}
+
+	private <T> List<Long> scroll(int size, BiFunction<String, Integer, CursorPage<T>> fetch, Function<T, Long> id) {
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorPage<T> page = fetch.apply(cursor, size);
+			page.getItems().forEach(item -> ids.add(id.apply(item)));
+			cursor = page.getNextCursor();
+		} while (cursor != null && ids.size() <= TASKS);
+		return ids;
+	}
+
+	private TaskRequest taskRequest(String title, LocalDateTime deadline) {
+		TaskRequest request = new TaskRequest();
+		request.setTitle(title);
+		request.setDescription("Keyset pagination fixture");
+		request.setDeadline(deadline);
+		request.setSubject("Mathematics");
+		request.setAssigneeIds(List.of(studentId));
+		request.setMaxScore(100);
+		return request;
+	}
+
+	private User user(String role) {
+		User user = new User();
+		user.setEmail("keyset-" + UUID.randomUUID() + "@example.invalid");
+		user.setName("Keyset " + role.toLowerCase());
+		user.setPassword("");
+		user.setRole(role);
+		return user;
+	}
+}
@@ -10,6 +10,11 @@ const nextConfig = {
           source: '/uploads/:path*',
           destination: '/api/serve-file/:path*',
         },
+        // Task attachment URLs are relative to the backend, which serves them
+        {
+          source: '/api/attachments/:path*',
+          destination: 'http://localhost:8080/api/attachments/:path*',
+        },
       ];
     },
     